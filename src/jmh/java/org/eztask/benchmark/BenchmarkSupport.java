@@ -0,0 +1,67 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+final class BenchmarkSupport {
+    static final int USERS = 64;
+
+    private BenchmarkSupport() {
+    }
+
+    // TaskManager is a process-wide singleton; each trial starts from an empty store.
+    static TaskManager freshTaskManager() {
+        try {
+            Field instance = TaskManager.class.getDeclaredField("taskManager");
+            instance.setAccessible(true);
+            instance.set(null, null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot reset TaskManager", e);
+        }
+        return TaskManager.getInstance();
+    }
+
+    static User[] users() {
+        User[] users = new User[USERS];
+        for (int i = 0; i < USERS; i++) {
+            users[i] = new User("user-" + i);
+        }
+        return users;
+    }
+
+    static TaskManager populatedTaskManager(int size, User[] users) {
+        TaskManager taskManager = freshTaskManager();
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int i = 0; i < size; i++) {
+            taskManager.createTask("Task " + i, "Description " + i, users[i % users.length]);
+        }
+        List<Task> tasks = taskManager.snapshot();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            taskManager.updateTaskStatus(task, statuses[i % statuses.length]);
+            taskManager.updateTaskPriority(task, priorities[(i / 3) % priorities.length]);
+            taskManager.assignTaskToUser(task, users[(i * 7) % users.length]);
+        }
+        return taskManager;
+    }
+
+    static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.eztask.benchmark;
+
+import org.eztask.id.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public long timeOrdered() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomUuid8Threads() {
+        return randomUuid();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long timeOrdered8Threads() {
+        return timeOrdered();
+    }
+}
@@ -0,0 +1,66 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Restart time from a snapshot plus a short log tail.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class RecoveryBenchmark {
+
+    @Param({"1000000", "5000000"})
+    public int size;
+
+    private Path dir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("recovery-bench");
+        TaskManager taskManager = BenchmarkSupport.populatedTaskManager(size, BenchmarkSupport.users());
+        taskManager.openWriteAheadLog(dir);
+        List<Task> tasks = taskManager.snapshot();
+        taskManager.checkpoint();
+        for (int i = 0; i < 10_000; i++) {
+            taskManager.updateTaskStatus(tasks.get(i), TaskStatus.COMPLETED);
+        }
+        taskManager.closeWriteAheadLog();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkSupport.freshTaskManager();
+        BenchmarkSupport.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public TaskManager restart() throws IOException {
+        TaskManager taskManager = BenchmarkSupport.freshTaskManager();
+        taskManager.openWriteAheadLog(dir);
+        taskManager.closeWriteAheadLog();
+        return taskManager;
+    }
+}
@@ -0,0 +1,78 @@
+package org.eztask.benchmark;
+
+import org.eztask.dispatch.TaskAssignmentEngine;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Auto-assignment against a team of registered users, and a full rebalance of the open tasks.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskAssignmentEngineBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"64", "4096"})
+    public int team;
+
+    private TaskManager taskManager;
+    private TaskAssignmentEngine engine;
+    private List<Task> tasks;
+    private User[] users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        taskManager = BenchmarkSupport.populatedTaskManager(size, BenchmarkSupport.users());
+        engine = taskManager.getAssignmentEngine();
+        tasks = taskManager.snapshot();
+        users = new User[team];
+        for (int i = 0; i < team; i++) {
+            users[i] = new User("member-" + i);
+            engine.addUser(users[i]);
+        }
+    }
+
+    @Benchmark
+    public User leastLoaded() {
+        return engine.leastLoaded();
+    }
+
+    @Benchmark
+    public User assign() {
+        return engine.assign(tasks.get(ThreadLocalRandom.current().nextInt(tasks.size())));
+    }
+
+    // Piles a slice of open tasks on one member, then lets a rebalance spread them again.
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int rebalance() {
+        for (int i = 0; i < 5_000; i++) {
+            Task task = tasks.get(i);
+            if (task.getTaskStatus() != TaskStatus.COMPLETED) taskManager.assignTaskToUser(task, users[0]);
+        }
+        return engine.rebalance();
+    }
+}
@@ -0,0 +1,66 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.text.TaskAutocompleteIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// One typeahead keystroke: top 10 by prefix from the index, against filtering the task list.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskAutocompleteBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"task 1", "task 98765"})
+    public String prefix;
+
+    private TaskManager taskManager;
+    private TaskAutocompleteIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User[] users = BenchmarkSupport.users();
+        taskManager = BenchmarkSupport.populatedTaskManager(size, users);
+        index = taskManager.getAutocompleteIndex();
+    }
+
+    @Benchmark
+    public List<Task> indexedTitles() {
+        return index.completeTitle(prefix, 10);
+    }
+
+    @Benchmark
+    public List<Task> scannedTitles() {
+        return taskManager.snapshot().stream()
+                .filter(task -> task.getTitle().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .limit(10)
+                .toList();
+    }
+
+    @Benchmark
+    public List<User> indexedUsers() {
+        return index.completeUserName("user-1", 10);
+    }
+}
@@ -0,0 +1,102 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskBatch;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// The same 100K status/priority/assignee updates, one call each against one TaskManager.apply.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskBatchBenchmark {
+    private static final int OPERATIONS = 100_000;
+
+    @Param({"false", "true"})
+    public boolean durable;
+
+    private Path dir;
+    private TaskManager taskManager;
+    private Task[] targets;
+    private int[] kinds;
+    private User[] users;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        users = BenchmarkSupport.users();
+        taskManager = BenchmarkSupport.populatedTaskManager(OPERATIONS, users);
+        List<Task> tasks = taskManager.snapshot();
+        Random random = new Random(11);
+        targets = new Task[OPERATIONS];
+        kinds = new int[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            targets[i] = tasks.get(random.nextInt(tasks.size()));
+            kinds[i] = random.nextInt(3);
+        }
+        if (durable) {
+            dir = Files.createTempDirectory("batch-bench");
+            taskManager.openWriteAheadLog(dir.resolve("tasks"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (durable) {
+            taskManager.closeWriteAheadLog();
+            BenchmarkSupport.deleteRecursively(dir);
+        }
+    }
+
+    @Benchmark
+    public void perCall() {
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int i = 0; i < OPERATIONS; i++) {
+            switch (kinds[i]) {
+                case 0 -> taskManager.updateTaskStatus(targets[i], statuses[i % statuses.length]);
+                case 1 -> taskManager.updateTaskPriority(targets[i], priorities[i % priorities.length]);
+                default -> taskManager.assignTaskToUser(targets[i], users[i % users.length]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void batch() {
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        TaskBatch batch = new TaskBatch();
+        for (int i = 0; i < OPERATIONS; i++) {
+            switch (kinds[i]) {
+                case 0 -> batch.updateTaskStatus(targets[i], statuses[i % statuses.length]);
+                case 1 -> batch.updateTaskPriority(targets[i], priorities[i % priorities.length]);
+                default -> batch.assignTaskToUser(targets[i], users[i % users.length]);
+            }
+        }
+        taskManager.apply(batch);
+    }
+}
@@ -0,0 +1,79 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.index.TaskBitmapIndex;
+import org.eztask.search.TaskAssigneeSearchStrategy;
+import org.eztask.search.TaskPrioritySearchStrategy;
+import org.eztask.search.TaskQuery;
+import org.eztask.search.TaskStatusSearchStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.eztask.search.TaskQuery.*;
+
+// Multi-dimension counts answered from the bitmaps, against a predicate scan of the snapshot.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskBitmapIndexBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private TaskManager taskManager;
+    private TaskBitmapIndex index;
+    private TaskQuery highNotCompleted;
+    private TaskQuery userHighOrNotPicked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User[] users = BenchmarkSupport.users();
+        taskManager = BenchmarkSupport.populatedTaskManager(size, users);
+        index = taskManager.getBitmapIndex();
+        highNotCompleted = and(
+                where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH),
+                not(where(new TaskStatusSearchStrategy(), TaskStatus.COMPLETED)));
+        userHighOrNotPicked = and(
+                where(new TaskAssigneeSearchStrategy(), users[3]),
+                or(where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH),
+                        where(new TaskStatusSearchStrategy(), TaskStatus.NOT_PICKED)));
+    }
+
+    @Benchmark
+    public long highNotCompletedBitmap() {
+        return index.count(highNotCompleted);
+    }
+
+    @Benchmark
+    public long highNotCompletedScan() {
+        return taskManager.snapshot().stream().filter(highNotCompleted::matches).count();
+    }
+
+    @Benchmark
+    public long userHighOrNotPickedBitmap() {
+        return index.count(userHighOrNotPicked);
+    }
+
+    @Benchmark
+    public long userHighOrNotPickedScan() {
+        return taskManager.snapshot().stream().filter(userHighOrNotPicked::matches).count();
+    }
+}
@@ -0,0 +1,88 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.load.LoadProgress;
+import org.eztask.load.TaskBulkLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Loading a CSV dump through TaskBulkLoader against reading it line by line into addTask.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class TaskBulkLoaderBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private Path dir;
+    private Path dump;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("bulk-bench");
+        dump = dir.resolve("tasks.csv");
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        try (BufferedWriter out = Files.newBufferedWriter(dump)) {
+            out.write("id,title,desc,creater,assignee,status,priority,createdAt\n");
+            for (int i = 0; i < size; i++) {
+                out.write((i + 1) + ",Task " + i + ",Description " + i + ",user-" + i % 64 + ",user-" + (i * 7) % 64
+                        + "," + statuses[i % statuses.length] + "," + priorities[(i / 3) % priorities.length]
+                        + ",2024-01-01T00:00:" + String.format("%02d", i % 60) + "\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkSupport.freshTaskManager();
+        BenchmarkSupport.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public LoadProgress bulkLoad() throws IOException {
+        return new TaskBulkLoader(BenchmarkSupport.freshTaskManager()).load(dump);
+    }
+
+    @Benchmark
+    public TaskManager addTaskPerLine() throws IOException {
+        TaskManager taskManager = BenchmarkSupport.freshTaskManager();
+        User[] users = BenchmarkSupport.users();
+        try (var lines = Files.lines(dump)) {
+            lines.skip(1).forEach(line -> {
+                String[] fields = line.split(",");
+                Task task = new Task(fields[1], fields[2], users[Integer.parseInt(fields[3].substring(5))]);
+                task.setAssignee(users[Integer.parseInt(fields[4].substring(5))]);
+                task.setTaskStatus(TaskStatus.valueOf(fields[5]));
+                task.setTaskPriority(TaskPriority.valueOf(fields[6]));
+                taskManager.addTask(task);
+            });
+        }
+        return taskManager;
+    }
+}
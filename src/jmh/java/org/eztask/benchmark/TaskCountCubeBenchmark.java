@@ -0,0 +1,76 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.stats.TaskCountCube;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// The dashboard query "HIGH tasks in DEV_IN_PROGRESS per assignee", answered from the live
+// cube versus a scan and group-by, plus the write path that keeps the cube current.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskCountCubeBenchmark {
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    @Param({"100000"})
+    public int size;
+
+    private TaskManager taskManager;
+    private TaskCountCube cube;
+    private List<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        taskManager = BenchmarkSupport.populatedTaskManager(size, BenchmarkSupport.users());
+        cube = taskManager.getCountCube();
+        tasks = taskManager.snapshot();
+    }
+
+    @Benchmark
+    public Map<String, Long> cubeByAssignee() {
+        return cube.countByAssignee(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH);
+    }
+
+    @Benchmark
+    public Map<String, Long> scanByAssignee() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Task task : tasks) {
+            if (task.getTaskStatus() == TaskStatus.DEV_IN_PROGRESS && task.getTaskPriority() == TaskPriority.HIGH
+                    && task.getAssignee() != null) {
+                counts.merge(task.getAssignee().getName(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updatePriority() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        taskManager.updateTaskPriority(tasks.get(random.nextInt(tasks.size())), PRIORITIES[random.nextInt(PRIORITIES.length)]);
+    }
+}
@@ -0,0 +1,74 @@
+package org.eztask.benchmark;
+
+import org.eztask.dispatch.TaskDispatchQueue;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+// Finding the next task to pick up: the dispatch queue against a scan and sort of the task list.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskDispatchQueueBenchmark {
+    private static final Comparator<Task> PICK_UP_ORDER = Comparator
+            .comparing((Task task) -> task.getTaskPriority() == null ? -1 : task.getTaskPriority().ordinal())
+            .reversed()
+            .thenComparing(Task::getCreatedAt)
+            .thenComparingLong(Task::getId);
+
+    @Param({"100000"})
+    public int size;
+
+    private TaskManager taskManager;
+    private TaskDispatchQueue queue;
+    private User worker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        taskManager = BenchmarkSupport.populatedTaskManager(size, BenchmarkSupport.users());
+        queue = taskManager.getDispatchQueue();
+        worker = new User("worker");
+    }
+
+    @Benchmark
+    public Task peekNext() {
+        return queue.peekNext();
+    }
+
+    @Benchmark
+    public Task scanAndSort() {
+        return taskManager.snapshot().stream()
+                .filter(task -> task.getTaskStatus() == TaskStatus.NOT_PICKED)
+                .min(PICK_UP_ORDER)
+                .orElse(null);
+    }
+
+    // Claims the next task and puts it back, so the queue stays the same size.
+    @Benchmark
+    @Threads(4)
+    public Task pollNextAndRelease() {
+        Task task = queue.pollNext(worker);
+        if (task != null) taskManager.updateTaskStatus(task, TaskStatus.NOT_PICKED);
+        return task;
+    }
+}
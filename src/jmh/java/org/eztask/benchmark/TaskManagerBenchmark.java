@@ -0,0 +1,101 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskManagerBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private TaskManager taskManager;
+    private List<Task> tasks;
+    private User[] users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = BenchmarkSupport.users();
+        taskManager = BenchmarkSupport.populatedTaskManager(size, users);
+        tasks = taskManager.snapshot();
+    }
+
+    private Task randomTask() {
+        return tasks.get(ThreadLocalRandom.current().nextInt(tasks.size()));
+    }
+
+    @Benchmark
+    public void createTask() {
+        taskManager.createTask("Task", "Description", users[0]);
+    }
+
+    @Benchmark
+    public void updateTaskStatus() {
+        TaskStatus[] statuses = TaskStatus.values();
+        taskManager.updateTaskStatus(randomTask(), statuses[ThreadLocalRandom.current().nextInt(statuses.length)]);
+    }
+
+    @Benchmark
+    public void updateTaskPriority() {
+        TaskPriority[] priorities = TaskPriority.values();
+        taskManager.updateTaskPriority(randomTask(), priorities[ThreadLocalRandom.current().nextInt(priorities.length)]);
+    }
+
+    @Benchmark
+    public void assignTaskToUser() {
+        taskManager.assignTaskToUser(randomTask(), users[ThreadLocalRandom.current().nextInt(users.length)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updateTaskStatus4Threads() {
+        updateTaskStatus();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void updateTaskStatus16Threads() {
+        updateTaskStatus();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void createTask16Threads() {
+        createTask();
+    }
+
+    @Benchmark
+    public List<Task> getTaskList() {
+        return taskManager.getTaskList();
+    }
+
+    @Benchmark
+    public List<Task> snapshot() {
+        return taskManager.snapshot();
+    }
+}
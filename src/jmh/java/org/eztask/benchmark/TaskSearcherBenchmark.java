@@ -0,0 +1,108 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskAssigneeSearchStrategy;
+import org.eztask.search.TaskCreaterSearchStrategy;
+import org.eztask.search.TaskPrioritySearchStrategy;
+import org.eztask.search.TaskSearchStrategy;
+import org.eztask.search.TaskSearchType;
+import org.eztask.search.TaskSearcher;
+import org.eztask.search.TaskStatusSearchStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Scan vs parallel-scan vs index vs column scan per strategy; the sequential/parallel pair locates
+// the crossover that TaskSearcher.DEFAULT_PARALLEL_THRESHOLD should sit at.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskSearcherBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"STATUS", "PRIORITY", "ASSIGNEE", "CREATER"})
+    public String searchType;
+
+    private TaskManager taskManager;
+    private List<Task> tasks;
+    private TaskSearcher sequential;
+    private TaskSearcher parallel;
+    private Object criteria;
+    private TaskSearchType columnType;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User[] users = BenchmarkSupport.users();
+        taskManager = BenchmarkSupport.populatedTaskManager(size, users);
+        tasks = taskManager.snapshot();
+        TaskSearchStrategy strategy;
+        switch (searchType) {
+            case "STATUS" -> {
+                strategy = new TaskStatusSearchStrategy();
+                criteria = TaskStatus.DEV_IN_PROGRESS;
+            }
+            case "PRIORITY" -> {
+                strategy = new TaskPrioritySearchStrategy();
+                criteria = TaskPriority.HIGH;
+            }
+            case "ASSIGNEE" -> {
+                strategy = new TaskAssigneeSearchStrategy();
+                criteria = users[3];
+            }
+            default -> {
+                strategy = new TaskCreaterSearchStrategy();
+                criteria = users[5];
+            }
+        }
+        columnType = strategy.getSearchType();
+        sequential = new TaskSearcher(strategy, Integer.MAX_VALUE, true);
+        parallel = new TaskSearcher(strategy, 0, true);
+    }
+
+    @Benchmark
+    public List<Task> sequentialScan() {
+        return sequential.search(tasks, criteria);
+    }
+
+    @Benchmark
+    public List<Task> parallelScan() {
+        return parallel.search(tasks, criteria);
+    }
+
+    @Benchmark
+    public List<Task> indexed() {
+        return sequential.search(taskManager, criteria);
+    }
+
+    @Benchmark
+    public List<Task> columnar() {
+        return sequential.search(taskManager.getColumnarTable(), criteria);
+    }
+
+    @Benchmark
+    public BitSet columnarBitmap() {
+        return taskManager.getColumnarTable().where(columnType, criteria);
+    }
+}
@@ -0,0 +1,77 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.search.TaskSearchType;
+import org.eztask.search.TaskTextSearchStrategy;
+import org.eztask.text.TaskTextIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Ranked multi-term queries over a Zipf-ish vocabulary, against a scan with the text strategy.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TaskTextIndexBenchmark {
+    private static final int VOCABULARY = 20_000;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"word3 word40", "word3 word40 word900"})
+    public String query;
+
+    private TaskManager taskManager;
+    private TaskTextIndex index;
+    private TaskTextSearchStrategy strategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        taskManager = BenchmarkSupport.freshTaskManager();
+        User[] users = BenchmarkSupport.users();
+        Random random = new Random(7);
+        for (int i = 0; i < size; i++) {
+            taskManager.addTask(new Task(words(random, 6), words(random, 20), users[i % users.length]));
+        }
+        index = (TaskTextIndex) taskManager.getIndex(TaskSearchType.TEXT);
+        strategy = new TaskTextSearchStrategy();
+    }
+
+    // Squaring a uniform draw skews toward low word numbers, so "word3" is common and "word900" rare.
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            double u = random.nextDouble();
+            text.append("word").append((int) (u * u * u * VOCABULARY)).append(' ');
+        }
+        return text.toString();
+    }
+
+    @Benchmark
+    public List<Task> top10() {
+        return index.search(query, 10);
+    }
+
+    @Benchmark
+    public long scan() {
+        return taskManager.snapshot().stream().filter(task -> strategy.matches(task, query)).count();
+    }
+}
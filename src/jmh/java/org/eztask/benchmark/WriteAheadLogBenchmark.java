@@ -0,0 +1,75 @@
+package org.eztask.benchmark;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Durable mutations per second; group commit should let throughput grow with writer threads.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteAheadLogBenchmark {
+    private Path dir;
+    private TaskManager taskManager;
+    private List<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("wal-bench");
+        taskManager = BenchmarkSupport.populatedTaskManager(10_000, BenchmarkSupport.users());
+        tasks = taskManager.snapshot();
+        taskManager.openWriteAheadLog(dir.resolve("tasks"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        taskManager.closeWriteAheadLog();
+        BenchmarkSupport.deleteRecursively(dir);
+    }
+
+    private void durableStatusUpdate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        TaskStatus[] statuses = TaskStatus.values();
+        taskManager.updateTaskStatus(tasks.get(random.nextInt(tasks.size())), statuses[random.nextInt(statuses.length)]);
+    }
+
+    @Benchmark
+    public void updateTaskStatus1Thread() {
+        durableStatusUpdate();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void updateTaskStatus16Threads() {
+        durableStatusUpdate();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void updateTaskStatus64Threads() {
+        durableStatusUpdate();
+    }
+}
@@ -1,6 +1,7 @@
 package org.eztask;
 
 import org.eztask.entity.Task;
+import org.eztask.entity.TaskBatch;
 import org.eztask.entity.User;
 import org.eztask.entity.TaskManager;
 import org.eztask.enums.TaskPriority;
@@ -25,30 +26,32 @@ public class Main {
         taskManager.createTask("Task4", "Description4", user4);
 
         TaskSearcher taskSearcher = new TaskSearcher(new TaskCreaterSearchStrategy());
-        List<Task> result = taskSearcher.search(taskManager.getTaskList(), user2);
+        List<Task> result = taskSearcher.search(taskManager, user2);
         TaskPrinter taskPrinter = new TaskPrinter();
         taskPrinter.printTasks(result);
-        for (Task task: taskManager.getTaskList()) {
-            taskManager.updateTaskStatus(task, TaskStatus.NOT_PICKED);
-            taskManager.updateTaskPriority(task, TaskPriority.MODERATE);
+        TaskBatch batch = new TaskBatch();
+        for (Task task: taskManager.snapshot()) {
+            batch.updateTaskStatus(task, TaskStatus.NOT_PICKED);
+            batch.updateTaskPriority(task, TaskPriority.MODERATE);
             System.out.println(task.getCreater().getName());
             if(task.getCreater().getName().equals(user4.getName())) {
-                taskManager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
-                taskManager.updateTaskPriority(task, TaskPriority.HIGH);
+                batch.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+                batch.updateTaskPriority(task, TaskPriority.HIGH);
             }
         }
+        taskManager.apply(batch);
 
         System.out.println("---------DEV_IN_PROGRESS-------");
         taskSearcher = new TaskSearcher(new TaskStatusSearchStrategy());
-        result = taskSearcher.search(taskManager.getTaskList(), TaskStatus.DEV_IN_PROGRESS);
+        result = taskSearcher.search(taskManager, TaskStatus.DEV_IN_PROGRESS);
         taskPrinter.printTasks(result);
         System.out.println("---------END_DEV_IN_PROGRESS-------");
         taskSearcher = new TaskSearcher(new TaskPrioritySearchStrategy());
         System.out.println("---------HIGH_PRIORITY-------");
-        result = taskSearcher.search(taskManager.getTaskList(), TaskPriority.HIGH);
+        result = taskSearcher.search(taskManager, TaskPriority.HIGH);
         taskPrinter.printTasks(result);
         System.out.println("---------END_HIGH_PRIORITY-------");
-        taskPrinter.printTasks(taskManager.getTaskList());
+        taskPrinter.printTasks(taskManager.snapshot());
 
 
 
@@ -0,0 +1,166 @@
+package org.eztask.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Sorted values, used while a chunk holds at most ARRAY_MAX values (8KB, the size of a bitmap).
+final class ArrayContainer extends Container {
+    private char[] content;
+    private int cardinality;
+
+    ArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] content, int cardinality) {
+        this.content = content;
+        this.cardinality = cardinality;
+    }
+
+    static int search(char[] values, int length, char value) {
+        int lo = 0;
+        int hi = length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char v = values[mid];
+            if (v < value) {
+                lo = mid + 1;
+            } else if (v > value) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    char valueAt(int index) {
+        return content[index];
+    }
+
+    @Override
+    Container add(char value) {
+        int i = search(content, cardinality, value);
+        if (i >= 0) return this;
+        if (cardinality >= ARRAY_MAX) {
+            return toBitmap().add(value);
+        }
+        int at = -i - 1;
+        if (cardinality == content.length) {
+            content = Arrays.copyOf(content, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+        }
+        System.arraycopy(content, at, content, at + 1, cardinality - at);
+        content[at] = value;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        int i = search(content, cardinality, value);
+        if (i < 0) return this;
+        System.arraycopy(content, i + 1, content, i, cardinality - i - 1);
+        cardinality--;
+        return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return search(content, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        char[] out = new char[cardinality];
+        int n = 0;
+        if (other instanceof ArrayContainer array) {
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < array.cardinality) {
+                char a = content[i];
+                char b = array.content[j];
+                if (a < b) {
+                    i++;
+                } else if (a > b) {
+                    j++;
+                } else {
+                    out[n++] = a;
+                    i++;
+                    j++;
+                }
+            }
+        } else {
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(content[i])) out[n++] = content[i];
+            }
+        }
+        return new ArrayContainer(out, n);
+    }
+
+    @Override
+    Container or(Container other) {
+        if (!(other instanceof ArrayContainer array)) {
+            return other.or(this);
+        }
+        if (cardinality + array.cardinality > ARRAY_MAX) {
+            return toBitmap().or(array);
+        }
+        char[] out = new char[Math.max(4, cardinality + array.cardinality)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < cardinality && j < array.cardinality) {
+            char a = content[i];
+            char b = array.content[j];
+            if (a < b) {
+                out[n++] = a;
+                i++;
+            } else if (a > b) {
+                out[n++] = b;
+                j++;
+            } else {
+                out[n++] = a;
+                i++;
+                j++;
+            }
+        }
+        while (i < cardinality) out[n++] = content[i++];
+        while (j < array.cardinality) out[n++] = array.content[j++];
+        return new ArrayContainer(out, n);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        char[] out = new char[cardinality];
+        int n = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (!other.contains(content[i])) out[n++] = content[i];
+        }
+        return new ArrayContainer(out, n);
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(content, Math.max(4, cardinality)), cardinality);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < cardinality; i++) {
+            action.accept(high | content[i]);
+        }
+    }
+
+    BitmapContainer toBitmap() {
+        BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.set(content[i]);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,153 @@
+package org.eztask.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// One bit per possible low value; used once a chunk holds more than ARRAY_MAX values.
+final class BitmapContainer extends Container {
+    private static final int WORDS = 1 << 10;
+
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer() {
+        this(new long[WORDS], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    // Every value in [from, to), with 0 <= from < to <= 65536.
+    static Container range(int from, int to) {
+        long[] words = new long[WORDS];
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        Arrays.fill(words, first, last + 1, -1L);
+        words[first] &= -1L << from;
+        words[last] &= -1L >>> (-to & 63);
+        return normalize(words, to - from);
+    }
+
+    void set(char value) {
+        long before = words[value >>> 6];
+        long after = before | (1L << value);
+        words[value >>> 6] = after;
+        if (before != after) cardinality++;
+    }
+
+    @Override
+    Container add(char value) {
+        set(value);
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        long before = words[value >>> 6];
+        long after = before & ~(1L << value);
+        if (before == after) return this;
+        words[value >>> 6] = after;
+        return --cardinality <= ARRAY_MAX ? toArray() : this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        if (!(other instanceof BitmapContainer bitmap)) {
+            return other.and(this);
+        }
+        long[] out = new long[WORDS];
+        int n = 0;
+        for (int i = 0; i < WORDS; i++) {
+            out[i] = words[i] & bitmap.words[i];
+            n += Long.bitCount(out[i]);
+        }
+        return normalize(out, n);
+    }
+
+    @Override
+    Container or(Container other) {
+        if (other instanceof BitmapContainer bitmap) {
+            long[] out = new long[WORDS];
+            int n = 0;
+            for (int i = 0; i < WORDS; i++) {
+                out[i] = words[i] | bitmap.words[i];
+                n += Long.bitCount(out[i]);
+            }
+            return new BitmapContainer(out, n);
+        }
+        ArrayContainer array = (ArrayContainer) other;
+        BitmapContainer out = new BitmapContainer(words.clone(), cardinality);
+        for (int i = 0; i < array.cardinality(); i++) {
+            out.set(array.valueAt(i));
+        }
+        return out;
+    }
+
+    @Override
+    Container andNot(Container other) {
+        long[] out = words.clone();
+        int n = cardinality;
+        if (other instanceof BitmapContainer bitmap) {
+            n = 0;
+            for (int i = 0; i < WORDS; i++) {
+                out[i] &= ~bitmap.words[i];
+                n += Long.bitCount(out[i]);
+            }
+        } else {
+            ArrayContainer array = (ArrayContainer) other;
+            for (int i = 0; i < array.cardinality(); i++) {
+                char value = array.valueAt(i);
+                long before = out[value >>> 6];
+                out[value >>> 6] = before & ~(1L << value);
+                if (before != out[value >>> 6]) n--;
+            }
+        }
+        return normalize(out, n);
+    }
+
+    @Override
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    private static Container normalize(long[] words, int cardinality) {
+        BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+        return cardinality <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+    }
+
+    ArrayContainer toArray() {
+        char[] content = new char[Math.max(4, cardinality)];
+        int n = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                content[n++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(content, n);
+    }
+}
@@ -0,0 +1,28 @@
+package org.eztask.bitmap;
+
+import java.util.function.IntConsumer;
+
+// Holds the low 16 bits of the values that share one high-16-bit key. Mutators return the
+// container to keep using, which may be a converted one once the cardinality crosses the
+// array/bitmap boundary; binary operations never modify their operands.
+abstract class Container {
+    static final int ARRAY_MAX = 4096;
+
+    abstract Container add(char value);
+
+    abstract Container remove(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+
+    abstract Container copy();
+
+    abstract void forEach(int high, IntConsumer action);
+}
@@ -0,0 +1,194 @@
+package org.eztask.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Compressed set of non-negative ints in the Roaring layout: values are split by their high
+// 16 bits into containers, each a sorted char array while sparse and a 64Kbit bitmap once
+// dense. Like java.util.BitSet, instances are mutable and not thread-safe, and the binary
+// operations update this bitmap in place.
+public class RoaringBitmap {
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public RoaringBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    private RoaringBitmap(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    // Every value in [start, end).
+    public static RoaringBitmap range(int start, int end) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (start >= end) return bitmap;
+        for (int high = start >>> 16, last = (end - 1) >>> 16; high <= last; high++) {
+            int base = high << 16;
+            int from = Math.max(start, base) - base;
+            int to = (int) Math.min((long) end - base, 1 << 16);
+            bitmap.insert(bitmap.size, (char) high, BitmapContainer.range(from, to));
+        }
+        return bitmap;
+    }
+
+    public RoaringBitmap copy() {
+        Container[] copies = new Container[containers.length];
+        for (int i = 0; i < size; i++) {
+            copies[i] = containers[i].copy();
+        }
+        return new RoaringBitmap(keys.clone(), copies, size);
+    }
+
+    public void add(int value) {
+        char high = (char) (value >>> 16);
+        int i = ArrayContainer.search(keys, size, high);
+        if (i >= 0) {
+            containers[i] = containers[i].add((char) value);
+        } else {
+            insert(-i - 1, high, new ArrayContainer().add((char) value));
+        }
+    }
+
+    public void remove(int value) {
+        int i = ArrayContainer.search(keys, size, (char) (value >>> 16));
+        if (i < 0) return;
+        Container container = containers[i].remove((char) value);
+        if (container.cardinality() == 0) {
+            delete(i);
+        } else {
+            containers[i] = container;
+        }
+    }
+
+    public boolean contains(int value) {
+        int i = ArrayContainer.search(keys, size, (char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void and(RoaringBitmap other) {
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    keys[n] = keys[i];
+                    containers[n++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        truncate(n);
+    }
+
+    public void or(RoaringBitmap other) {
+        char[] mergedKeys = new char[size + other.size];
+        Container[] merged = new Container[size + other.size];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                mergedKeys[n] = keys[i];
+                merged[n++] = containers[i++];
+            } else if (i == size || keys[i] > other.keys[j]) {
+                mergedKeys[n] = other.keys[j];
+                merged[n++] = other.containers[j++].copy();
+            } else {
+                mergedKeys[n] = keys[i];
+                merged[n++] = containers[i++].or(other.containers[j++]);
+            }
+        }
+        keys = mergedKeys;
+        containers = merged;
+        size = n;
+    }
+
+    public void andNot(RoaringBitmap other) {
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) j++;
+            Container container = containers[i];
+            if (j < other.size && other.keys[j] == keys[i]) {
+                container = container.andNot(other.containers[j]);
+            }
+            if (container.cardinality() > 0) {
+                keys[n] = keys[i];
+                containers[n++] = container;
+            }
+        }
+        truncate(n);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[(int) cardinality()];
+        int[] n = {0};
+        forEach(value -> values[n[0]++] = value);
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "RoaringBitmap{cardinality=" + cardinality() + ", containers=" + size + "}";
+    }
+
+    private void insert(int at, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(4, size * 2));
+            containers = Arrays.copyOf(containers, Math.max(4, size * 2));
+        }
+        System.arraycopy(keys, at, keys, at + 1, size - at);
+        System.arraycopy(containers, at, containers, at + 1, size - at);
+        keys[at] = key;
+        containers[at] = container;
+        size++;
+    }
+
+    private void delete(int at) {
+        System.arraycopy(keys, at + 1, keys, at, size - at - 1);
+        System.arraycopy(containers, at + 1, containers, at, size - at - 1);
+        containers[--size] = null;
+    }
+
+    private void truncate(int n) {
+        Arrays.fill(containers, n, size, null);
+        size = n;
+    }
+}
@@ -0,0 +1,16 @@
+package org.eztask.cdc;
+
+import org.eztask.entity.Task;
+
+// One TaskManager mutation. Sequence numbers start at 0 and have no gaps; the old and new
+// values are the User, TaskStatus or TaskPriority involved, or the Comment that was added.
+public record TaskChangeEvent(long sequence, Type type, Task task, Object oldValue, Object newValue) {
+
+    public enum Type {
+        CREATED,
+        ASSIGNED,
+        STATUS_CHANGED,
+        PRIORITY_CHANGED,
+        COMMENT_ADDED
+    }
+}
@@ -0,0 +1,18 @@
+package org.eztask.cdc;
+
+// Signalled to a subscriber that fell a full ring behind. Resubscribe from getResumeSequence()
+// while it is still buffered, or resynchronise from a snapshot if it is not.
+public class TaskChangeLagException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    private final long resumeSequence;
+
+    public TaskChangeLagException(long resumeSequence, long oldestBufferedSequence) {
+        super("Event " + resumeSequence + " is no longer buffered; oldest buffered is " + oldestBufferedSequence);
+        this.resumeSequence = resumeSequence;
+    }
+
+    public long getResumeSequence() {
+        return resumeSequence;
+    }
+}
@@ -0,0 +1,225 @@
+package org.eztask.cdc;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Change-data-capture stream of every TaskManager mutation. Writers claim a sequence number and
+// store the event in a fixed ring, overwriting the oldest, so the write path never waits for a
+// consumer. Each subscriber reads the ring at its own pace on the executor, bounded by its
+// request(n) demand; one that falls a whole ring behind is cancelled with a
+// TaskChangeLagException carrying the sequence to resume from.
+//
+// Replayed changes are not republished, but with a write-ahead log the numbering carries on
+// from the previous run (see resumeAt), so a consumer's saved sequence is never reused.
+public class TaskChangePublisher implements Flow.Publisher<TaskChangeEvent>, TaskChangeListener {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final AtomicReferenceArray<TaskChangeEvent> ring;
+    private final int mask;
+    private final Executor executor;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private volatile long firstSequence;
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public TaskChangePublisher() {
+        this(DEFAULT_CAPACITY, ForkJoinPool.commonPool());
+    }
+
+    public TaskChangePublisher(int capacity, Executor executor) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a positive power of two: " + capacity);
+        }
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.executor = executor;
+    }
+
+    // Sequence number the next event will get.
+    public long nextSequence() {
+        return nextSequence.get();
+    }
+
+    public long oldestBufferedSequence() {
+        return Math.max(firstSequence, nextSequence.get() - ring.length());
+    }
+
+    // Continues the numbering at sequence; call before any event is published.
+    public void resumeAt(long sequence) {
+        if (nextSequence.get() != firstSequence) {
+            throw new IllegalStateException("Events already published up to " + nextSequence.get());
+        }
+        firstSequence = Math.max(firstSequence, sequence);
+        nextSequence.set(firstSequence);
+    }
+
+    // Delivers events published from now on.
+    @Override
+    public void subscribe(Flow.Subscriber<? super TaskChangeEvent> subscriber) {
+        subscribe(subscriber, nextSequence.get());
+    }
+
+    // Delivers events starting at fromSequence, which must still be buffered. Nothing is
+    // signalled until onSubscribe has returned, even if it requests at once.
+    public void subscribe(Flow.Subscriber<? super TaskChangeEvent> subscriber, long fromSequence) {
+        EventSubscription subscription = new EventSubscription(subscriber, fromSequence);
+        subscription.hold();
+        subscriptions.add(subscription);
+        try {
+            subscriber.onSubscribe(subscription);
+            if (fromSequence > nextSequence.get()) {
+                subscription.fail(new IllegalArgumentException("Sequence " + fromSequence + " has not been published"));
+            } else if (fromSequence < oldestBufferedSequence()) {
+                subscription.fail(new TaskChangeLagException(fromSequence, oldestBufferedSequence()));
+            }
+        } finally {
+            subscription.release();
+        }
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        publish(TaskChangeEvent.Type.CREATED, task, null, null);
+    }
+
+    @Override
+    public void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+        publish(TaskChangeEvent.Type.ASSIGNED, task, oldAssignee, newAssignee);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        publish(TaskChangeEvent.Type.STATUS_CHANGED, task, oldStatus, newStatus);
+    }
+
+    @Override
+    public void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+        publish(TaskChangeEvent.Type.PRIORITY_CHANGED, task, oldPriority, newPriority);
+    }
+
+    @Override
+    public void onCommentAdded(Task task, Comment comment) {
+        publish(TaskChangeEvent.Type.COMMENT_ADDED, task, null, comment);
+    }
+
+    @Override
+    public boolean followsReplay() {
+        return false;
+    }
+
+    private void publish(TaskChangeEvent.Type type, Task task, Object oldValue, Object newValue) {
+        long sequence = nextSequence.getAndIncrement();
+        ring.set((int) sequence & mask, new TaskChangeEvent(sequence, type, task, oldValue, newValue));
+        for (EventSubscription subscription : subscriptions) {
+            subscription.published(sequence);
+        }
+    }
+
+    private final class EventSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super TaskChangeEvent> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile long next;
+        private volatile boolean cancelled;
+        private volatile Throwable failure;
+
+        EventSubscription(Flow.Subscriber<? super TaskChangeEvent> subscriber, long next) {
+            this.subscriber = subscriber;
+            this.next = next;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("request must be positive: " + n));
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        // Only wakes the drain when there is demand to serve or the subscriber is about to lag.
+        void published(long sequence) {
+            if (requested.get() > 0 || sequence - next >= ring.length()) {
+                schedule();
+            }
+        }
+
+        // Takes the drain slot so signals raised meanwhile wait until release.
+        void hold() {
+            pending.incrementAndGet();
+        }
+
+        void release() {
+            if (pending.decrementAndGet() != 0) {
+                executor.execute(this);
+            }
+        }
+
+        void fail(Throwable error) {
+            failure = error;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        // Serialised by the pending counter, so signals to the subscriber never overlap.
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (cancelled) return;
+                if (failure != null) {
+                    cancel();
+                    subscriber.onError(failure);
+                    return;
+                }
+                long demand = requested.get();
+                long delivered = 0;
+                while (delivered != demand && !cancelled) {
+                    long sequence = next;
+                    TaskChangeEvent event = ring.get((int) sequence & mask);
+                    // Not written yet, or already overwritten; the lag check below tells them apart.
+                    if (event == null || event.sequence() != sequence) break;
+                    next = sequence + 1;
+                    delivered++;
+                    subscriber.onNext(event);
+                }
+                if (nextSequence.get() - next > ring.length()) {
+                    cancel();
+                    subscriber.onError(new TaskChangeLagException(next, oldestBufferedSequence()));
+                    return;
+                }
+                if (delivered > 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-delivered);
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package org.eztask.columnar;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskSearchType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Mirrors the task store column by column, addressed by Task.getRowId(). Each chunk keeps one
+// primitive array per attribute so a filter is a branch-free loop over a single array, which
+// C2 unrolls and vectorizes. Code 0 means "unset" in the code columns, so they need no fill;
+// creation times start at Long.MIN_VALUE, which no range query reaches.
+// Users are dictionary-encoded by name, matching the assignee and creater search strategies.
+public class ColumnarTaskTable implements TaskChangeListener {
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final byte NONE = 0;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private static final class Chunk {
+        final Task[] tasks = new Task[CHUNK_SIZE];
+        final byte[] status = new byte[CHUNK_SIZE];
+        final byte[] priority = new byte[CHUNK_SIZE];
+        final int[] assignee = new int[CHUNK_SIZE];
+        final int[] creater = new int[CHUNK_SIZE];
+        final long[] createdAt = new long[CHUNK_SIZE];
+
+        Chunk() {
+            Arrays.fill(createdAt, NO_TIME);
+        }
+    }
+
+    private final Map<String, Integer> userCodes = new ConcurrentHashMap<>();
+    private final AtomicInteger nextUserCode = new AtomicInteger(1);
+    private final AtomicInteger rowCount = new AtomicInteger();
+    private volatile Chunk[] chunks = new Chunk[16];
+
+    public int size() {
+        return rowCount.get();
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        int row = task.getRowId();
+        if (row < 0) return;
+        Chunk chunk = chunkFor(row);
+        int i = row & CHUNK_MASK;
+        chunk.status[i] = codeOf(task.getTaskStatus());
+        chunk.priority[i] = codeOf(task.getTaskPriority());
+        chunk.assignee[i] = codeOf(task.getAssignee());
+        chunk.creater[i] = codeOf(task.getCreater());
+        chunk.createdAt[i] = task.getCreatedAtNanos();
+        chunk.tasks[i] = task;
+        rowCount.accumulateAndGet(row + 1, Math::max);
+    }
+
+    @Override
+    public void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+        Chunk chunk = chunkOf(task);
+        if (chunk != null) chunk.assignee[task.getRowId() & CHUNK_MASK] = codeOf(newAssignee);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        Chunk chunk = chunkOf(task);
+        if (chunk != null) chunk.status[task.getRowId() & CHUNK_MASK] = codeOf(newStatus);
+    }
+
+    @Override
+    public void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+        Chunk chunk = chunkOf(task);
+        if (chunk != null) chunk.priority[task.getRowId() & CHUNK_MASK] = codeOf(newPriority);
+    }
+
+    // Returns null for search types without a column, so callers can fall back to a scan.
+    public BitSet where(TaskSearchType searchType, Object criteria) {
+        if (searchType == null) return null;
+        return switch (searchType) {
+            case STATUS -> criteria instanceof TaskStatus status ? whereStatus(status) : new BitSet();
+            case PRIORITY -> criteria instanceof TaskPriority priority ? wherePriority(priority) : new BitSet();
+            case ASSIGNEE -> criteria instanceof User user ? whereAssignee(user) : new BitSet();
+            case CREATER -> criteria instanceof User user ? whereCreater(user) : new BitSet();
+            case TEXT -> null;
+        };
+    }
+
+    public BitSet whereStatus(TaskStatus status) {
+        if (status == null) return new BitSet();
+        byte code = codeOf(status);
+        return scan((chunk, rows, words, offset) -> matchBytes(chunk.status, code, rows, words, offset));
+    }
+
+    public BitSet wherePriority(TaskPriority priority) {
+        if (priority == null) return new BitSet();
+        byte code = codeOf(priority);
+        return scan((chunk, rows, words, offset) -> matchBytes(chunk.priority, code, rows, words, offset));
+    }
+
+    public BitSet whereAssignee(User assignee) {
+        Integer code = assignee == null || assignee.getName() == null ? null : userCodes.get(assignee.getName());
+        if (code == null) return new BitSet();
+        return scan((chunk, rows, words, offset) -> matchInts(chunk.assignee, code, rows, words, offset));
+    }
+
+    public BitSet whereCreater(User creater) {
+        Integer code = creater == null || creater.getName() == null ? null : userCodes.get(creater.getName());
+        if (code == null) return new BitSet();
+        return scan((chunk, rows, words, offset) -> matchInts(chunk.creater, code, rows, words, offset));
+    }
+
+    // Half-open range [from, to) on the creation time.
+    public BitSet whereCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        long lo = Math.max(Task.toNanos(from), NO_TIME + 1);
+        long hi = Task.toNanos(to);
+        return scan((chunk, rows, words, offset) -> matchRange(chunk.createdAt, lo, hi, rows, words, offset));
+    }
+
+    public List<Task> tasks(BitSet rows) {
+        Chunk[] current = chunks;
+        List<Task> result = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            Chunk chunk = row >>> CHUNK_SHIFT < current.length ? current[row >>> CHUNK_SHIFT] : null;
+            Task task = chunk == null ? null : chunk.tasks[row & CHUNK_MASK];
+            if (task != null) result.add(task);
+        }
+        return result;
+    }
+
+    // Counts indexed by [status ordinal][priority ordinal]; rows missing either value are skipped.
+    public long[][] countByStatusAndPriority(BitSet rows) {
+        long[][] counts = new long[STATUSES.length][PRIORITIES.length];
+        Chunk[] current = chunks;
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            Chunk chunk = row >>> CHUNK_SHIFT < current.length ? current[row >>> CHUNK_SHIFT] : null;
+            if (chunk == null) continue;
+            int status = chunk.status[row & CHUNK_MASK];
+            int priority = chunk.priority[row & CHUNK_MASK];
+            if (status != NONE && priority != NONE) counts[status - 1][priority - 1]++;
+        }
+        return counts;
+    }
+
+    @FunctionalInterface
+    private interface ChunkFilter {
+        void apply(Chunk chunk, int rows, long[] words, int wordOffset);
+    }
+
+    private BitSet scan(ChunkFilter filter) {
+        int size = rowCount.get();
+        Chunk[] current = chunks;
+        long[] words = new long[(size + 63) >>> 6];
+        for (int base = 0; base < size; base += CHUNK_SIZE) {
+            Chunk chunk = current[base >>> CHUNK_SHIFT];
+            if (chunk != null) {
+                filter.apply(chunk, Math.min(CHUNK_SIZE, size - base), words, (base >>> 6));
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static void matchBytes(byte[] column, byte value, int rows, long[] words, int wordOffset) {
+        for (int base = 0, w = wordOffset; base < rows; base += 64, w++) {
+            int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int j = 0; j < end; j++) {
+                word |= (column[base + j] == value ? 1L : 0L) << j;
+            }
+            words[w] = word;
+        }
+    }
+
+    private static void matchInts(int[] column, int value, int rows, long[] words, int wordOffset) {
+        for (int base = 0, w = wordOffset; base < rows; base += 64, w++) {
+            int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int j = 0; j < end; j++) {
+                word |= (column[base + j] == value ? 1L : 0L) << j;
+            }
+            words[w] = word;
+        }
+    }
+
+    private static void matchRange(long[] column, long lo, long hi, int rows, long[] words, int wordOffset) {
+        for (int base = 0, w = wordOffset; base < rows; base += 64, w++) {
+            int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int j = 0; j < end; j++) {
+                long v = column[base + j];
+                word |= (v >= lo & v < hi ? 1L : 0L) << j;
+            }
+            words[w] = word;
+        }
+    }
+
+    private Chunk chunkOf(Task task) {
+        int row = task.getRowId();
+        if (row < 0) return null;
+        Chunk[] current = chunks;
+        int index = row >>> CHUNK_SHIFT;
+        return index < current.length ? current[index] : null;
+    }
+
+    private Chunk chunkFor(int row) {
+        int index = row >>> CHUNK_SHIFT;
+        Chunk[] current = chunks;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        synchronized (this) {
+            current = chunks;
+            if (index >= current.length) {
+                current = Arrays.copyOf(current, Math.max(current.length * 2, index + 1));
+            }
+            if (current[index] == null) {
+                current[index] = new Chunk();
+            }
+            chunks = current;
+            return current[index];
+        }
+    }
+
+    private int codeOf(User user) {
+        if (user == null || user.getName() == null) return NONE;
+        return userCodes.computeIfAbsent(user.getName(), name -> nextUserCode.getAndIncrement());
+    }
+
+    private static byte codeOf(Enum<?> value) {
+        return value == null ? NONE : (byte) (value.ordinal() + 1);
+    }
+}
@@ -0,0 +1,191 @@
+package org.eztask.concurrent;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Elements are stored in fixed-size chunks that are never copied or cleared, so a
+// snapshot is just the chunk directory plus the published size at the time it was taken.
+public class AppendOnlyList<T> {
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private final AtomicInteger reserved = new AtomicInteger();
+    private volatile Object[][] directory = new Object[16][];
+    private volatile int published;
+
+    public int append(T element) {
+        int index = reserved.getAndIncrement();
+        chunkFor(index)[index & CHUNK_MASK] = element;
+        publish(index, index + 1);
+        return index;
+    }
+
+    // Reserves one contiguous range for all the elements and publishes it at once; returns its first index.
+    public int appendAll(List<? extends T> elements) {
+        int first = reserved.getAndAdd(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            int index = first + i;
+            chunkFor(index)[index & CHUNK_MASK] = elements.get(i);
+        }
+        publish(first, first + elements.size());
+        return first;
+    }
+
+    // Allocates chunks up front so the next appends up to the given size never stop to grow the directory.
+    public void ensureCapacity(int capacity) {
+        for (int index = reserved.get(); index < capacity; index += CHUNK_SIZE) {
+            chunkFor(index);
+        }
+        if (capacity > 0) chunkFor(capacity - 1);
+    }
+
+    // Publish in slot order so readers never observe a gap below the published size.
+    private void publish(int from, int to) {
+        int spins = 0;
+        while (published != from) {
+            if (++spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        published = to;
+    }
+
+    private Object[] chunkFor(int index) {
+        int chunk = index >>> CHUNK_SHIFT;
+        Object[][] dir = directory;
+        if (chunk < dir.length && dir[chunk] != null) {
+            return dir[chunk];
+        }
+        synchronized (this) {
+            dir = directory;
+            if (chunk >= dir.length) {
+                dir = Arrays.copyOf(dir, Math.max(dir.length * 2, chunk + 1));
+            }
+            if (dir[chunk] == null) {
+                dir[chunk] = new Object[CHUNK_SIZE];
+            }
+            directory = dir;
+            return dir[chunk];
+        }
+    }
+
+    public int size() {
+        return published;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= published) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + published);
+        }
+        return (T) directory[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public Snapshot<T> snapshot() {
+        int size = published;
+        return new Snapshot<>(directory, size);
+    }
+
+    public static class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[][] directory;
+        private final int size;
+
+        private Snapshot(Object[][] directory, int size) {
+            this.directory = directory;
+            this.size = size;
+        }
+
+        // Number of appends visible to this snapshot; later snapshots never have a smaller version.
+        public long version() {
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return (T) directory[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return new ChunkSpliterator<>(directory, 0, size);
+        }
+    }
+
+    // Splits on chunk boundaries so each fork/join leaf walks whole backing arrays.
+    static class ChunkSpliterator<T> implements Spliterator<T> {
+        private final Object[][] directory;
+        private int index;
+        private final int fence;
+
+        ChunkSpliterator(Object[][] directory, int origin, int fence) {
+            this.directory = directory;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (fence - lo > CHUNK_SIZE) {
+                mid &= ~CHUNK_MASK;
+                if (mid <= lo) mid = (lo & ~CHUNK_MASK) + CHUNK_SIZE;
+            }
+            if (mid <= lo || mid >= fence) return null;
+            index = mid;
+            return new ChunkSpliterator<>(directory, lo, mid);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) return false;
+            int i = index++;
+            action.accept((T) directory[i >>> CHUNK_SHIFT][i & CHUNK_MASK]);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            int i = index;
+            index = fence;
+            while (i < fence) {
+                Object[] chunk = directory[i >>> CHUNK_SHIFT];
+                int end = Math.min(fence, (i & ~CHUNK_MASK) + CHUNK_SIZE);
+                for (int j = i & CHUNK_MASK, last = j + (end - i); j < last; j++) {
+                    action.accept((T) chunk[j]);
+                }
+                i = end;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+}
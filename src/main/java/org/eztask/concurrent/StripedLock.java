@@ -0,0 +1,56 @@
+package org.eztask.concurrent;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+public class StripedLock {
+    // 2^64 divided by the golden ratio; multiplying by it carries every key bit into the top bits.
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final int shift;
+
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive: " + stripes);
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(size);
+    }
+
+    public int stripeOf(Object key) {
+        return spread(key.hashCode());
+    }
+
+    // Time-ordered ids differ mostly in their high timestamp bits or only in their low sequence
+    // bits, so the stripe is taken from the top of a full 64-bit multiplicative mix.
+    public int stripeOf(long key) {
+        return spread(key);
+    }
+
+    private int spread(long key) {
+        // The mask covers the single-stripe case, where a shift of 64 would be a shift of 0.
+        return (int) ((key * GOLDEN_GAMMA) >>> shift) & mask;
+    }
+
+    public ReentrantLock get(long key) {
+        return locks[stripeOf(key)];
+    }
+
+    public ReentrantLock get(Object key) {
+        return locks[stripeOf(key)];
+    }
+
+    public ReentrantLock getAt(int stripe) {
+        return locks[stripe];
+    }
+
+    public int size() {
+        return locks.length;
+    }
+}
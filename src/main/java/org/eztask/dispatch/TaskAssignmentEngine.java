@@ -0,0 +1,287 @@
+package org.eztask.dispatch;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskBatch;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.entity.TaskConflictException;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Live per-user load, the priority weights of the user's open (not COMPLETED) tasks, keyed by
+// user name like the assignee index. Callbacks carry the old values, so each change moves
+// exactly the weight it adds or removes, and counters are updated without taking a lock.
+// Registered users sit in a tree ordered by load, so the least-loaded one is found in
+// O(log users); users whose load moved are queued and re-placed in the tree when it is read.
+public class TaskAssignmentEngine implements TaskChangeListener {
+    private static final int[] WEIGHTS = {1, 2, 4};
+    private static final int MAX_WEIGHT = 4;
+    // Stands for a null user name, which the concurrent map cannot hold.
+    private static final Object NO_NAME = new Object();
+    private static final Comparator<String> BY_NAME = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final Supplier<List<Task>> snapshot;
+    private final Consumer<TaskBatch> applier;
+    private final Map<Object, UserLoad> loads = new ConcurrentHashMap<>();
+    private final Queue<UserLoad> moved = new ConcurrentLinkedQueue<>();
+    private final TreeSet<UserLoad> eligible = new TreeSet<>(UserLoad.LIGHTEST_FIRST);
+
+    public TaskAssignmentEngine(Supplier<List<Task>> snapshot, Consumer<TaskBatch> applier) {
+        this.snapshot = snapshot;
+        this.applier = applier;
+    }
+
+    private static final class UserLoad {
+        static final Comparator<UserLoad> LIGHTEST_FIRST =
+                Comparator.comparingLong((UserLoad load) -> load.ranked).thenComparing(load -> load.name, BY_NAME);
+
+        final String name;
+        final AtomicLong load = new AtomicLong();
+        final AtomicBoolean queued = new AtomicBoolean();
+        volatile User user;
+        // The load this entry is filed under in eligible; guarded by the engine.
+        long ranked;
+
+        UserLoad(String name) {
+            this.name = name;
+        }
+    }
+
+    private record Planned(Task task, int version, int weight) {
+    }
+
+    private record Move(Task task, int version, User user) {
+    }
+
+    public static int weightOf(TaskPriority priority) {
+        return priority == null ? WEIGHTS[0] : WEIGHTS[priority.ordinal()];
+    }
+
+    private static boolean isOpen(Task task) {
+        return task.getTaskStatus() != TaskStatus.COMPLETED;
+    }
+
+    private static Object keyOf(String name) {
+        return name == null ? NO_NAME : name;
+    }
+
+    private UserLoad loadFor(User user) {
+        String name = user.getName();
+        return loads.computeIfAbsent(keyOf(name), key -> new UserLoad(name));
+    }
+
+    // Makes the user a candidate for assignment, with whatever load they already carry.
+    public synchronized void addUser(User user) {
+        UserLoad load = loadFor(user);
+        if (load.user != null) eligible.remove(load);
+        load.user = user;
+        load.ranked = load.load.get();
+        eligible.add(load);
+    }
+
+    public synchronized void removeUser(User user) {
+        UserLoad load = loads.get(keyOf(user.getName()));
+        if (load != null && load.user != null) {
+            eligible.remove(load);
+            load.user = null;
+        }
+    }
+
+    public long loadOf(User user) {
+        UserLoad load = user == null ? null : loads.get(keyOf(user.getName()));
+        return load == null ? 0 : load.load.get();
+    }
+
+    // Null when no user is registered.
+    public synchronized User leastLoaded() {
+        rerank();
+        return eligible.isEmpty() ? null : eligible.first().user;
+    }
+
+    // Re-files the registered users whose load changed since they were last placed.
+    private void rerank() {
+        UserLoad load;
+        while ((load = moved.poll()) != null) {
+            load.queued.set(false);
+            if (load.user == null) continue;
+            eligible.remove(load);
+            load.ranked = load.load.get();
+            eligible.add(load);
+        }
+    }
+
+    // Assigns the task to the least-loaded user and returns that user, or null if there is none.
+    // Concurrent calls may pick the same user before either assignment lands in the counters.
+    public User assign(Task task) {
+        User user = leastLoaded();
+        if (user != null) {
+            applier.accept(new TaskBatch().assignTaskToUser(task, user));
+        }
+        return user;
+    }
+
+    // Hands every open unassigned task to a registered user, heaviest first to the lightest
+    // user, as one batch. Returns the number of tasks assigned.
+    public int assignUnassigned() {
+        return rebalance(false);
+    }
+
+    // Also moves tasks from the most to the least loaded registered user while a move narrows
+    // the gap between them, largest useful task first. Tasks of unregistered assignees stay put.
+    // Returns the number of assignments made.
+    public int rebalance() {
+        return rebalance(true);
+    }
+
+    // Plans from a snapshot read without locks, so every move expects the version the task was
+    // planned at; a task changed in the meantime is left out and the rest still go through.
+    private int rebalance(boolean moveAssigned) {
+        Map<Object, Plan> plans = new HashMap<>();
+        synchronized (this) {
+            rerank();
+            for (UserLoad load : eligible) {
+                plans.put(keyOf(load.name), new Plan(load.user));
+            }
+        }
+        if (plans.isEmpty()) return 0;
+        List<Planned> unassigned = new ArrayList<>();
+        for (Task task : snapshot.get()) {
+            int version = task.getVersion();
+            if (!isOpen(task)) continue;
+            Planned planned = new Planned(task, version, weightOf(task.getTaskPriority()));
+            User assignee = task.getAssignee();
+            if (assignee == null) {
+                unassigned.add(planned);
+                continue;
+            }
+            Plan plan = plans.get(keyOf(assignee.getName()));
+            if (plan != null) plan.add(planned);
+        }
+        TreeSet<Plan> byLoad = new TreeSet<>(Plan.LIGHTEST_FIRST);
+        byLoad.addAll(plans.values());
+        List<Move> moves = new ArrayList<>();
+        unassigned.sort(Comparator.comparingInt(Planned::weight).reversed());
+        for (Planned planned : unassigned) {
+            Plan lightest = byLoad.pollFirst();
+            lightest.add(planned);
+            byLoad.add(lightest);
+            moves.add(new Move(planned.task(), planned.version(), lightest.user));
+        }
+        while (moveAssigned && byLoad.size() > 1) {
+            Plan heaviest = byLoad.pollLast();
+            Plan lightest = byLoad.pollFirst();
+            Planned planned = heaviest.takeBelow(heaviest.load - lightest.load);
+            if (planned != null) {
+                lightest.add(planned);
+                moves.add(new Move(planned.task(), planned.version(), lightest.user));
+            }
+            byLoad.add(heaviest);
+            byLoad.add(lightest);
+            if (planned == null) break;
+        }
+        return applyMoves(moves);
+    }
+
+    private int applyMoves(List<Move> moves) {
+        while (!moves.isEmpty()) {
+            TaskBatch batch = new TaskBatch();
+            for (Move move : moves) {
+                batch.expectVersion(move.task(), move.version()).assignTaskToUser(move.task(), move.user());
+            }
+            try {
+                applier.accept(batch);
+                return moves.size();
+            } catch (TaskConflictException e) {
+                if (!moves.removeIf(move -> move.task().getId() == e.getTaskId())) throw e;
+            }
+        }
+        return 0;
+    }
+
+    private static final class Plan {
+        static final Comparator<Plan> LIGHTEST_FIRST =
+                Comparator.comparingLong((Plan plan) -> plan.load).thenComparing(plan -> plan.user.getName(), BY_NAME);
+
+        final User user;
+        final List<ArrayDeque<Planned>> byWeight = new ArrayList<>();
+        long load;
+
+        Plan(User user) {
+            this.user = user;
+            for (int weight = 0; weight <= MAX_WEIGHT; weight++) {
+                byWeight.add(new ArrayDeque<>());
+            }
+        }
+
+        void add(Planned planned) {
+            int weight = planned.weight();
+            byWeight.get(weight).add(planned);
+            load += weight;
+        }
+
+        // Removes the heaviest task lighter than the gap, so moving it strictly narrows the spread.
+        Planned takeBelow(long gap) {
+            for (int weight = (int) Math.min(MAX_WEIGHT, gap - 1); weight > 0; weight--) {
+                Planned planned = byWeight.get(weight).poll();
+                if (planned != null) {
+                    load -= weight;
+                    return planned;
+                }
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        User assignee = task.getAssignee();
+        if (assignee != null && isOpen(task)) adjust(assignee, weightOf(task.getTaskPriority()));
+    }
+
+    @Override
+    public void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+        if (!isOpen(task)) return;
+        int weight = weightOf(task.getTaskPriority());
+        if (oldAssignee != null) adjust(oldAssignee, -weight);
+        if (newAssignee != null) adjust(newAssignee, weight);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        boolean wasOpen = oldStatus != TaskStatus.COMPLETED;
+        boolean open = newStatus != TaskStatus.COMPLETED;
+        User assignee = task.getAssignee();
+        if (wasOpen == open || assignee == null) return;
+        int weight = weightOf(task.getTaskPriority());
+        adjust(assignee, open ? weight : -weight);
+    }
+
+    @Override
+    public void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+        User assignee = task.getAssignee();
+        if (assignee == null || !isOpen(task)) return;
+        int delta = weightOf(newPriority) - weightOf(oldPriority);
+        if (delta != 0) adjust(assignee, delta);
+    }
+
+    private void adjust(User user, int delta) {
+        UserLoad load = loadFor(user);
+        load.load.addAndGet(delta);
+        if (load.queued.compareAndSet(false, true)) moved.add(load);
+    }
+}
@@ -0,0 +1,124 @@
+package org.eztask.dispatch;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskBatch;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.entity.TaskConflictException;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+// NOT_PICKED tasks in pick-up order: higher priority first, then older first. Each priority
+// has its own lock-free skip list ordered by (createdAt, id), so a priority change is a remove
+// from one list and an insert into another, and a claim is pollFirst, which hands each entry
+// to exactly one thread. Tasks without a priority come after LOW.
+public class TaskDispatchQueue implements TaskChangeListener {
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final List<ConcurrentSkipListSet<Entry>> queues = new ArrayList<>();
+    private final Consumer<TaskBatch> applier;
+
+    // Claims are written back through the applier, normally TaskManager::apply.
+    public TaskDispatchQueue(Consumer<TaskBatch> applier) {
+        this.applier = applier;
+        for (int i = 0; i <= PRIORITIES.length; i++) {
+            queues.add(new ConcurrentSkipListSet<>(Entry.OLDEST_FIRST));
+        }
+    }
+
+    private record Entry(long createdAt, long id, Task task) {
+        static final Comparator<Entry> OLDEST_FIRST =
+                Comparator.comparingLong(Entry::createdAt).thenComparingLong(Entry::id);
+
+        static Entry of(Task task) {
+            return new Entry(task.getCreatedAtNanos(), task.getId(), task);
+        }
+    }
+
+    private ConcurrentSkipListSet<Entry> queueOf(TaskPriority priority) {
+        return queues.get(priority == null ? PRIORITIES.length : PRIORITIES.length - 1 - priority.ordinal());
+    }
+
+    // Takes the most urgent task, assigns it to the user and moves it to DEV_IN_PROGRESS;
+    // null when nothing is waiting.
+    public Task pollNext(User user) {
+        for (ConcurrentSkipListSet<Entry> queue : queues) {
+            Entry entry;
+            while ((entry = queue.pollFirst()) != null) {
+                Task task = entry.task();
+                if (task.getTaskStatus() != TaskStatus.NOT_PICKED) continue;
+                boolean settled = false;
+                try {
+                    // Someone may have picked the task by hand since it was queued.
+                    applier.accept(new TaskBatch()
+                            .expectStatus(task, TaskStatus.NOT_PICKED)
+                            .assignTaskToUser(task, user)
+                            .updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS));
+                    settled = true;
+                } catch (TaskConflictException e) {
+                    settled = true;
+                    continue;
+                } finally {
+                    // Any other failure leaves the task unclaimed, so it goes back for the next worker.
+                    if (!settled && task.getTaskStatus() == TaskStatus.NOT_PICKED) {
+                        queueOf(task.getTaskPriority()).add(entry);
+                    }
+                }
+                return task;
+            }
+        }
+        return null;
+    }
+
+    // The task pollNext would hand out now, without claiming it.
+    public Task peekNext() {
+        for (ConcurrentSkipListSet<Entry> queue : queues) {
+            for (Entry entry : queue) {
+                return entry.task();
+            }
+        }
+        return null;
+    }
+
+    // Walks every list; meant for monitoring, not the hot path.
+    public int size() {
+        int size = 0;
+        for (ConcurrentSkipListSet<Entry> queue : queues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        if (task.getTaskStatus() == TaskStatus.NOT_PICKED) {
+            queueOf(task.getTaskPriority()).add(Entry.of(task));
+        }
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        if (oldStatus == newStatus) return;
+        if (newStatus == TaskStatus.NOT_PICKED) {
+            queueOf(task.getTaskPriority()).add(Entry.of(task));
+        } else if (oldStatus == TaskStatus.NOT_PICKED) {
+            queueOf(task.getTaskPriority()).remove(Entry.of(task));
+        }
+    }
+
+    // A failed remove means a worker has already claimed the task, so it is not re-queued.
+    @Override
+    public void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+        if (oldPriority == newPriority || task.getTaskStatus() != TaskStatus.NOT_PICKED) return;
+        Entry entry = Entry.of(task);
+        if (queueOf(oldPriority).remove(entry)) {
+            queueOf(newPriority).add(entry);
+        }
+    }
+}
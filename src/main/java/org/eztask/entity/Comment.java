@@ -8,10 +8,17 @@ public class Comment {
     private LocalDateTime creationTime;
 
     public Comment(String text) {
+        this(text, LocalDateTime.now());
+    }
+
+    public Comment(String text, LocalDateTime creationTime) {
         this.text = text;
-        this.creationTime = LocalDateTime.now();
+        this.creationTime = creationTime;
     }
 
+    public String getText() {
+        return this.text;
+    }
 
     public LocalDateTime getCreationTime() {
         return this.creationTime;
@@ -2,82 +2,199 @@ package org.eztask.entity;
 
 import org.eztask.enums.TaskPriority;
 import org.eztask.enums.TaskStatus;
+import org.eztask.id.IdGenerator;
+import org.eztask.id.TimeOrderedIdGenerator;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.ZoneOffset;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+// Stored compactly: timestamps as UTC epoch nanos, status and priority as byte ordinals,
+// users as UserTable slots, and no comment list until the first comment. The accessors
+// still speak LocalDateTime, enums and User.
 public class Task {
-    private String id;
-    private String title;
-    private String desc;
-    private User assignee;
-    private TaskStatus taskStatus;
-    private TaskPriority taskPriority;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
-    private User creater;
-    private List<Comment> comments;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final byte NO_ORDINAL = -1;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private static volatile IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+    private final long id;
+    private final long createdAt;
+    private volatile long updatedAt = NO_TIME;
+    private final String title;
+    private final String desc;
+    private final int creater;
+    private volatile int assignee = UserTable.NO_USER;
+    private volatile byte taskStatus = NO_ORDINAL;
+    private volatile byte taskPriority = NO_ORDINAL;
+    private volatile List<Comment> comments;
+    private int rowId = -1;
+    private volatile int version;
 
     public Task(String title, String desc, User creater) {
-        this.id = UUID.randomUUID().toString();
+        this(idGenerator.nextId(), title, desc, creater, LocalDateTime.now());
+    }
+
+    // Restores a task with a previously issued id, e.g. when replaying a log.
+    public Task(long id, String title, String desc, User creater, LocalDateTime createdAt) {
+        this(id, title, desc, creater, createdAt, 0);
+    }
+
+    // Also restores the version the task had reached, e.g. when loading a snapshot.
+    public Task(long id, String title, String desc, User creater, LocalDateTime createdAt, int version) {
+        this.id = id;
         this.title = title;
         this.desc = desc;
-        this.creater = creater;
-        this.createdAt = LocalDateTime.now();
-        this.comments = new ArrayList<>();
+        this.creater = UserTable.slotOf(creater);
+        this.createdAt = toNanos(createdAt);
+        this.version = version;
+    }
+
+    public static void useIdGenerator(IdGenerator generator) {
+        idGenerator = generator;
+    }
+
+    // Keeps ids of tasks restored from a log or a dump from being issued again.
+    public static void advanceIdsPast(long id) {
+        idGenerator.advancePast(id);
+    }
+
+    // Next id from the generator new tasks use, for callers building tasks with the restoring constructor.
+    public static long nextId() {
+        return idGenerator.nextId();
+    }
+
+    // Nanoseconds since the epoch in UTC, as getCreatedAtNanos() reports them; null maps below every time.
+    public static long toNanos(LocalDateTime time) {
+        if (time == null) return NO_TIME;
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime fromNanos(long nanos) {
+        if (nanos == NO_TIME) return null;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
     }
 
     public void addComment(Comment comment) {
-        comments.add(comment);
+        List<Comment> current = comments;
+        if (current == null) {
+            synchronized (this) {
+                current = comments;
+                if (current == null) {
+                    current = new CopyOnWriteArrayList<>();
+                    comments = current;
+                }
+            }
+        }
+        current.add(comment);
     }
 
     public void setAssignee(User assignee) {
-        this.assignee = assignee;
+        this.assignee = UserTable.slotOf(assignee);
     }
 
     public void setTaskStatus(TaskStatus taskStatus) {
-        this.taskStatus = taskStatus;
+        this.taskStatus = taskStatus == null ? NO_ORDINAL : (byte) taskStatus.ordinal();
     }
 
     public void setTaskPriority(TaskPriority taskPriority) {
-        this.taskPriority = taskPriority;
+        this.taskPriority = taskPriority == null ? NO_ORDINAL : (byte) taskPriority.ordinal();
     }
 
     public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
+        this.updatedAt = toNanos(updatedAt);
+    }
+
+    public long getId() {
+        return this.id;
+    }
+
+    // Bumped by every TaskManager mutation of this task; readable without locking.
+    public int getVersion() {
+        return this.version;
+    }
+
+    // Only called under the task's stripe lock, so the read-increment-write cannot race.
+    void incrementVersion() {
+        this.version = version + 1;
+    }
+
+    void restoreVersion(int version) {
+        this.version = version;
+    }
+
+    // Position in the TaskManager store, or -1 for a task that was never added to it.
+    public int getRowId() {
+        return this.rowId;
+    }
+
+    void setRowId(int rowId) {
+        this.rowId = rowId;
+    }
+
+    public String getTitle() {
+        return this.title;
+    }
+
+    public String getDesc() {
+        return this.desc;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return fromNanos(this.createdAt);
+    }
+
+    // UTC epoch nanos as stored, Long.MIN_VALUE when unset; orders like getCreatedAt without
+    // building a LocalDateTime.
+    public long getCreatedAtNanos() {
+        return this.createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return fromNanos(this.updatedAt);
     }
 
     public User getAssignee() {
-        return this.assignee;
+        return UserTable.userAt(this.assignee);
     }
 
     public TaskPriority getTaskPriority() {
-        return this.taskPriority;
+        byte ordinal = this.taskPriority;
+        return ordinal == NO_ORDINAL ? null : PRIORITIES[ordinal];
     }
 
     public TaskStatus getTaskStatus() {
-        return this.taskStatus;
+        byte ordinal = this.taskStatus;
+        return ordinal == NO_ORDINAL ? null : STATUSES[ordinal];
     }
 
     public User getCreater() {
-        return this.creater;
+        return UserTable.userAt(this.creater);
+    }
+
+    public List<Comment> getComments() {
+        List<Comment> current = comments;
+        return current == null ? Collections.emptyList() : Collections.unmodifiableList(current);
     }
 
     @Override
     public String toString() {
         return "Task{" +
-                "id='" + id + '\'' +
+                "id=" + id +
                 ", title='" + title + '\'' +
                 ", desc='" + desc + '\'' +
-                ", assignee=" + assignee +
-                ", taskStatus=" + taskStatus +
-                ", taskPriority=" + taskPriority +
-                ", createdAt=" + createdAt +
-                ", updatedAt=" + updatedAt +
-                ", creater=" + creater +
-                ", comments=" + comments.toString() +
+                ", assignee=" + getAssignee() +
+                ", taskStatus=" + getTaskStatus() +
+                ", taskPriority=" + getTaskPriority() +
+                ", createdAt=" + getCreatedAt() +
+                ", updatedAt=" + getUpdatedAt() +
+                ", creater=" + getCreater() +
+                ", comments=" + getComments().toString() +
                 '}';
     }
 }
@@ -0,0 +1,65 @@
+package org.eztask.entity;
+
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Mutations collected up front and handed to TaskManager.apply in one call. Operations run in
+// the order they were added; several on the same task are allowed. Expectations are checked
+// against the state before the batch, and if any fails nothing is applied.
+public class TaskBatch {
+    enum Type { COMMENT, ASSIGN, STATUS, PRIORITY, EXPECT_VERSION, EXPECT_STATUS }
+
+    record Operation(Type type, Task task, Object value) {
+    }
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    public TaskBatch addComment(Task task, Comment comment) {
+        return add(Type.COMMENT, task, Objects.requireNonNull(comment, "comment"));
+    }
+
+    public TaskBatch assignTaskToUser(Task task, User user) {
+        return add(Type.ASSIGN, task, user);
+    }
+
+    public TaskBatch updateTaskStatus(Task task, TaskStatus status) {
+        return add(Type.STATUS, task, status);
+    }
+
+    public TaskBatch updateTaskPriority(Task task, TaskPriority priority) {
+        return add(Type.PRIORITY, task, priority);
+    }
+
+    public TaskBatch expectVersion(Task task, int version) {
+        return add(Type.EXPECT_VERSION, task, version);
+    }
+
+    public TaskBatch expectStatus(Task task, TaskStatus status) {
+        return add(Type.EXPECT_STATUS, task, status);
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    public void clear() {
+        operations.clear();
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    private TaskBatch add(Type type, Task task, Object value) {
+        operations.add(new Operation(type, Objects.requireNonNull(task, "task"), value));
+        return this;
+    }
+}
@@ -0,0 +1,40 @@
+package org.eztask.entity;
+
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.util.List;
+
+// Callbacks run on the mutating thread while the task's stripe lock is held.
+public interface TaskChangeListener {
+    default void onTaskAdded(Task task) {
+    }
+
+    // Bulk loads hand over a whole run of new tasks in row order; override to index them in one
+    // pass. Large runs are delivered to all listeners in parallel from pool threads, still under
+    // the stripe locks of every task in the run.
+    default void onTasksAdded(List<Task> tasks) {
+        for (Task task : tasks) {
+            onTaskAdded(task);
+        }
+    }
+
+    default void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+    }
+
+    default void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+    }
+
+    default void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+    }
+
+    default void onCommentAdded(Task task, Comment comment) {
+    }
+
+    // Whether to hear the changes replayed from the write-ahead log at startup. Listeners that
+    // rebuild in-memory state need them; ones that reach outside the process already did so
+    // when the change was first made.
+    default boolean followsReplay() {
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package org.eztask.entity;
+
+// A conditional update found the task changed since the caller last read it. Re-read the task
+// at getCurrentVersion() and decide again.
+public class TaskConflictException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    private final long taskId;
+    private final int currentVersion;
+
+    public TaskConflictException(long taskId, int currentVersion, String message) {
+        super(message);
+        this.taskId = taskId;
+        this.currentVersion = currentVersion;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public int getCurrentVersion() {
+        return currentVersion;
+    }
+}
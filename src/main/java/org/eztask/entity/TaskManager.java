@@ -1,14 +1,70 @@
 package org.eztask.entity;
 
+import org.eztask.cdc.TaskChangePublisher;
+import org.eztask.columnar.ColumnarTaskTable;
+import org.eztask.concurrent.AppendOnlyList;
+import org.eztask.concurrent.StripedLock;
+import org.eztask.dispatch.TaskAssignmentEngine;
+import org.eztask.dispatch.TaskDispatchQueue;
 import org.eztask.enums.TaskPriority;
 import org.eztask.enums.TaskStatus;
+import org.eztask.index.TaskAssigneeIndex;
+import org.eztask.index.TaskBitmapIndex;
+import org.eztask.index.TaskCreaterIndex;
+import org.eztask.index.TaskIndex;
+import org.eztask.index.TaskPriorityIndex;
+import org.eztask.index.TaskStatusIndex;
+import org.eztask.search.ContinuousQueryRegistry;
+import org.eztask.search.TaskSearchType;
+import org.eztask.stats.TaskCountCube;
+import org.eztask.text.TaskAutocompleteIndex;
+import org.eztask.text.TaskTextIndex;
+import org.eztask.wal.TaskCheckpointer;
+import org.eztask.wal.TaskLogCodec;
+import org.eztask.wal.TaskLogReplayer;
+import org.eztask.wal.WriteAheadLog;
+import org.eztask.workflow.TaskStatusWorkflow;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 
 public class TaskManager {
-    private List<Task> taskList;
+    private static final int LOCK_STRIPES = 64;
+    private static final int PARALLEL_BULK_TASKS = 4096;
+
+    // Appends never block readers; per-task mutations serialize on the task's stripe only.
+    private final AppendOnlyList<Task> taskList;
+    private final Map<Long, Task> tasksById;
+    private final StripedLock taskLocks;
+    private final Map<TaskSearchType, TaskIndex> indexes;
+    private final List<TaskChangeListener> listeners;
+    private volatile ColumnarTaskTable columnarTable;
+    private final TaskBitmapIndex bitmapIndex;
+    private final TaskAutocompleteIndex autocompleteIndex;
+    private final ContinuousQueryRegistry continuousQueries;
+    private final TaskChangePublisher changePublisher;
+    private final TaskDispatchQueue dispatchQueue;
+    private final TaskAssignmentEngine assignmentEngine;
+    private final TaskStatusWorkflow statusWorkflow;
+    private final TaskCountCube countCube;
+    private volatile WriteAheadLog writeAheadLog;
+    // Logged transitions already passed the workflow once; replaying over a snapshot may
+    // repeat them out of order.
+    private volatile boolean replaying;
+    private TaskCheckpointer checkpointer;
 
     private static volatile TaskManager taskManager = null;
 
@@ -24,38 +80,613 @@ public class TaskManager {
     }
 
     private TaskManager() {
-        taskList = new ArrayList<>();
+        taskList = new AppendOnlyList<>();
+        tasksById = new ConcurrentHashMap<>();
+        taskLocks = new StripedLock(LOCK_STRIPES);
+        indexes = new EnumMap<>(TaskSearchType.class);
+        listeners = new CopyOnWriteArrayList<>();
+        registerIndex(new TaskStatusIndex());
+        registerIndex(new TaskPriorityIndex());
+        registerIndex(new TaskAssigneeIndex());
+        registerIndex(new TaskCreaterIndex());
+        registerIndex(new TaskTextIndex(taskList::get));
+        bitmapIndex = new TaskBitmapIndex();
+        listeners.add(bitmapIndex);
+        autocompleteIndex = new TaskAutocompleteIndex();
+        listeners.add(autocompleteIndex);
+        continuousQueries = new ContinuousQueryRegistry(this::snapshot);
+        listeners.add(continuousQueries);
+        changePublisher = new TaskChangePublisher();
+        listeners.add(changePublisher);
+        dispatchQueue = new TaskDispatchQueue(this::apply);
+        listeners.add(dispatchQueue);
+        assignmentEngine = new TaskAssignmentEngine(this::snapshot, this::apply);
+        listeners.add(assignmentEngine);
+        statusWorkflow = new TaskStatusWorkflow();
+        listeners.add(statusWorkflow);
+        countCube = new TaskCountCube();
+        listeners.add(countCube);
+    }
+
+    private void registerIndex(TaskIndex index) {
+        indexes.put(index.getSearchType(), index);
+        listeners.add(index);
+    }
+
+    public TaskIndex getIndex(TaskSearchType searchType) {
+        return searchType == null ? null : indexes.get(searchType);
+    }
+
+    // Built on first use, so a deployment without analytics neither keeps a third copy of every
+    // task nor maintains one on each write. Every stripe is held while the table is filled and
+    // registered, so no mutation falls between the backfill and the first notification.
+    public ColumnarTaskTable getColumnarTable() {
+        ColumnarTaskTable table = columnarTable;
+        if (table != null) return table;
+        synchronized (this) {
+            if (columnarTable == null) {
+                table = new ColumnarTaskTable();
+                boolean[] stripes = new boolean[taskLocks.size()];
+                Arrays.fill(stripes, true);
+                lockStripes(stripes);
+                try {
+                    table.onTasksAdded(taskList.snapshot());
+                    listeners.add(table);
+                } finally {
+                    unlockStripes(stripes);
+                }
+                columnarTable = table;
+            }
+            return columnarTable;
+        }
+    }
+
+    public TaskBitmapIndex getBitmapIndex() {
+        return bitmapIndex;
+    }
+
+    public TaskAutocompleteIndex getAutocompleteIndex() {
+        return autocompleteIndex;
+    }
+
+    public ContinuousQueryRegistry getContinuousQueries() {
+        return continuousQueries;
+    }
+
+    public TaskChangePublisher getChangePublisher() {
+        return changePublisher;
+    }
+
+    public TaskDispatchQueue getDispatchQueue() {
+        return dispatchQueue;
+    }
+
+    public TaskAssignmentEngine getAssignmentEngine() {
+        return assignmentEngine;
+    }
+
+    public TaskStatusWorkflow getStatusWorkflow() {
+        return statusWorkflow;
+    }
+
+    public TaskCountCube getCountCube() {
+        return countCube;
+    }
+
+    public void addListener(TaskChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(TaskChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Loads the newest snapshot in the directory, replays the log tail after it, then makes
+    // every later mutation durable before the mutating call returns. Call at startup, before
+    // other threads mutate.
+    public void openWriteAheadLog(Path directory) throws IOException {
+        synchronized (this) {
+            if (writeAheadLog != null) {
+                throw new IllegalStateException("Write-ahead log already open at " + writeAheadLog.getDirectory());
+            }
+            WriteAheadLog log = WriteAheadLog.open(directory);
+            replaying = true;
+            try {
+                TaskLogReplayer replayer = new TaskLogReplayer(this);
+                long snapshotLsn = TaskCheckpointer.loadLatest(directory, replayer);
+                log.replay(snapshotLsn, replayer);
+                changePublisher.resumeAt(replayer.getEvents());
+            } catch (IOException | RuntimeException e) {
+                log.close();
+                throw e;
+            } finally {
+                replaying = false;
+            }
+            writeAheadLog = log;
+            checkpointer = new TaskCheckpointer(this, log);
+        }
+    }
+
+    // Writes a snapshot without blocking writers and drops the log segments it covers.
+    public long checkpoint() throws IOException {
+        TaskCheckpointer current;
+        synchronized (this) {
+            current = checkpointer;
+        }
+        if (current == null) {
+            throw new IllegalStateException("Write-ahead log is not open");
+        }
+        return current.checkpoint();
+    }
+
+    public void scheduleCheckpoints(Duration interval) {
+        synchronized (this) {
+            if (checkpointer == null) {
+                throw new IllegalStateException("Write-ahead log is not open");
+            }
+            checkpointer.schedule(interval);
+        }
+    }
+
+    public void closeWriteAheadLog() throws IOException {
+        synchronized (this) {
+            WriteAheadLog log = writeAheadLog;
+            TaskCheckpointer current = checkpointer;
+            writeAheadLog = null;
+            checkpointer = null;
+            if (current != null) {
+                current.close();
+            }
+            if (log != null) {
+                log.close();
+            }
+        }
+    }
+
+    private void awaitDurable(WriteAheadLog log, long lsn) {
+        if (log != null && lsn != 0) {
+            log.awaitDurable(lsn);
+        }
+    }
+
+    // Every mutation logs the change before touching the task, so a failed append leaves nothing
+    // behind. Once logged the change stands: every listener runs even if one throws, and the
+    // first failure reaches the caller after the locks are released.
+    private RuntimeException notifyListeners(Consumer<TaskChangeListener> event) {
+        RuntimeException failure = null;
+        for (TaskChangeListener listener : listeners) {
+            failure = combine(failure, notifyListener(listener, event));
+        }
+        return failure;
+    }
+
+    private RuntimeException notifyListener(TaskChangeListener listener, Consumer<TaskChangeListener> event) {
+        if (replaying && !listener.followsReplay()) return null;
+        try {
+            event.accept(listener);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static RuntimeException combine(RuntimeException failure, RuntimeException next) {
+        if (failure == null) return next;
+        if (next != null) failure.addSuppressed(next);
+        return failure;
+    }
+
+    private static void rethrow(RuntimeException failure) {
+        if (failure != null) throw failure;
     }
 
     public void addTask(Task task) {
-        taskList.add(task);
+        WriteAheadLog log = writeAheadLog;
+        long lsn = 0;
+        RuntimeException failure;
+        Lock lock = taskLocks.get(task.getId());
+        lock.lock();
+        try {
+            if (tasksById.containsKey(task.getId())) {
+                throw new IllegalArgumentException("Task " + task.getId() + " already exists");
+            }
+            if (log != null) lsn = log.append(TaskLogCodec.encodeCreate(task));
+            tasksById.put(task.getId(), task);
+            task.setRowId(taskList.append(task));
+            failure = notifyListeners(listener -> listener.onTaskAdded(task));
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(log, lsn);
+        rethrow(failure);
+    }
+
+    // Bulk counterpart of addTask for loaders: logs the tasks as one record, appends them as one
+    // contiguous run of rows and hands each listener the whole run. Like addTask it rejects an
+    // id that is already present, or repeated within the run, before anything is changed.
+    // Returns how many were added.
+    public int addTasks(List<Task> tasks) {
+        if (tasks.isEmpty()) return 0;
+        WriteAheadLog log = writeAheadLog;
+        long lsn = 0;
+        RuntimeException failure = null;
+        boolean[] stripes = new boolean[taskLocks.size()];
+        long[] ids = new long[tasks.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = tasks.get(i).getId();
+            stripes[taskLocks.stripeOf(ids[i])] = true;
+        }
+        Arrays.sort(ids);
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] == ids[i - 1]) {
+                throw new IllegalArgumentException("Task " + ids[i] + " appears more than once");
+            }
+        }
+        lockStripes(stripes);
+        try {
+            for (long id : ids) {
+                if (tasksById.containsKey(id)) {
+                    throw new IllegalArgumentException("Task " + id + " already exists");
+                }
+            }
+            if (log != null) {
+                List<byte[]> records = new ArrayList<>(tasks.size());
+                for (Task task : tasks) {
+                    records.add(TaskLogCodec.encodeCreate(task));
+                }
+                lsn = log.append(TaskLogCodec.encodeBatch(records));
+            }
+            for (Task task : tasks) {
+                tasksById.put(task.getId(), task);
+            }
+            int first = taskList.appendAll(tasks);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setRowId(first + i);
+            }
+            Consumer<TaskChangeListener> event = listener -> listener.onTasksAdded(tasks);
+            if (tasks.size() >= PARALLEL_BULK_TASKS) {
+                // Listeners keep separate structures, so large runs index on all of them at once.
+                List<RuntimeException> failures = listeners.parallelStream()
+                        .map(listener -> notifyListener(listener, event))
+                        .toList();
+                for (RuntimeException next : failures) {
+                    failure = combine(failure, next);
+                }
+            } else {
+                failure = notifyListeners(event);
+            }
+        } finally {
+            unlockStripes(stripes);
+        }
+        awaitDurable(log, lsn);
+        rethrow(failure);
+        return tasks.size();
+    }
+
+    // Pre-sizes row storage ahead of a bulk load of about this many more tasks.
+    public void reserve(int additionalTasks) {
+        taskList.ensureCapacity(taskList.size() + additionalTasks);
     }
 
     public void createTask(String title, String desc, User creater) {
-        Task task = new Task(title, desc, creater);
-        taskList.add(task);
+        addTask(new Task(title, desc, creater));
+    }
+
+    public Task getTask(long id) {
+        return tasksById.get(id);
+    }
+
+    private Task requireTask(long id) {
+        Task task = tasksById.get(id);
+        if (task == null) {
+            throw new NoSuchElementException("No task with id " + id);
+        }
+        return task;
+    }
+
+    public void addComment(long taskId, Comment comment) {
+        addComment(requireTask(taskId), comment);
+    }
+
+    public void assignTaskToUser(long taskId, User user) {
+        assignTaskToUser(requireTask(taskId), user);
+    }
+
+    public void updateTaskStatus(long taskId, TaskStatus status) {
+        updateTaskStatus(requireTask(taskId), status);
+    }
+
+    public void updateTaskPriority(long taskId, TaskPriority priority) {
+        updateTaskPriority(requireTask(taskId), priority);
     }
 
     public void addComment(Task task, Comment comment) {
-        task.setUpdatedAt(comment.getCreationTime());
-        task.addComment(comment);
+        WriteAheadLog log = writeAheadLog;
+        long lsn = 0;
+        RuntimeException failure;
+        Lock lock = taskLocks.get(task.getId());
+        lock.lock();
+        try {
+            if (log != null) lsn = log.append(TaskLogCodec.encodeComment(task, task.getVersion() + 1, task.getComments().size(), comment));
+            task.setUpdatedAt(comment.getCreationTime());
+            task.addComment(comment);
+            task.incrementVersion();
+            failure = notifyListeners(listener -> listener.onCommentAdded(task, comment));
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(log, lsn);
+        rethrow(failure);
     }
 
     public void assignTaskToUser(Task task, User user) {
-        task.setUpdatedAt(LocalDateTime.now());
-        task.setAssignee(user);
+        WriteAheadLog log = writeAheadLog;
+        long lsn = 0;
+        RuntimeException failure;
+        Lock lock = taskLocks.get(task.getId());
+        lock.lock();
+        try {
+            User oldAssignee = task.getAssignee();
+            LocalDateTime now = LocalDateTime.now();
+            if (log != null) lsn = log.append(TaskLogCodec.encodeAssign(task, task.getVersion() + 1, now, user));
+            task.setUpdatedAt(now);
+            task.setAssignee(user);
+            task.incrementVersion();
+            failure = notifyListeners(listener -> listener.onAssigneeChanged(task, oldAssignee, user));
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(log, lsn);
+        rethrow(failure);
     }
 
     public void updateTaskStatus(Task task, TaskStatus status) {
-        task.setUpdatedAt(LocalDateTime.now());
-        task.setTaskStatus(status);
+        WriteAheadLog log = writeAheadLog;
+        long lsn = 0;
+        RuntimeException failure;
+        Lock lock = taskLocks.get(task.getId());
+        lock.lock();
+        try {
+            TaskStatus oldStatus = task.getTaskStatus();
+            if (!replaying) statusWorkflow.check(task, oldStatus, status);
+            LocalDateTime now = LocalDateTime.now();
+            if (log != null) lsn = log.append(TaskLogCodec.encodeStatus(task, task.getVersion() + 1, now, status));
+            task.setUpdatedAt(now);
+            task.setTaskStatus(status);
+            task.incrementVersion();
+            failure = notifyListeners(listener -> listener.onStatusChanged(task, oldStatus, status));
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(log, lsn);
+        rethrow(failure);
     }
 
     public void updateTaskPriority(Task task, TaskPriority priority) {
-        task.setUpdatedAt(LocalDateTime.now());
-        task.setTaskPriority(priority);
+        WriteAheadLog log = writeAheadLog;
+        long lsn = 0;
+        RuntimeException failure;
+        Lock lock = taskLocks.get(task.getId());
+        lock.lock();
+        try {
+            TaskPriority oldPriority = task.getTaskPriority();
+            LocalDateTime now = LocalDateTime.now();
+            if (log != null) lsn = log.append(TaskLogCodec.encodePriority(task, task.getVersion() + 1, now, priority));
+            task.setUpdatedAt(now);
+            task.setTaskPriority(priority);
+            task.incrementVersion();
+            failure = notifyListeners(listener -> listener.onPriorityChanged(task, oldPriority, priority));
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(log, lsn);
+        rethrow(failure);
+    }
+
+    // Sets the version a replayed record produced, which the mutator replaying it may not reach
+    // on its own when the snapshot caught the task partway through a change.
+    public void restoreVersion(Task task, int version) {
+        Lock lock = taskLocks.get(task.getId());
+        lock.lock();
+        try {
+            task.restoreVersion(version);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Applies every operation under one timestamp and one WAL record, holding each stripe the
+    // batch touches (taken in ascending order) until the last listener has run, so concurrent
+    // writers never see part of a batch. Listeners hear each operation right after it is
+    // applied, so old values and the rest of the task read as they were at that step even when
+    // a batch touches one task several times. Comments keep their own creation time.
+    // Expectations are checked once before locking, so a stale caller fails without waiting,
+    // and again under the locks, where the outcome is decided.
+    public void apply(TaskBatch batch) {
+        apply(batch, null);
+    }
+
+    // Returns the version of the observed task as the batch left it, read before the locks are
+    // released so a later writer cannot slip in between; 0 when there is nothing to observe.
+    private int apply(TaskBatch batch, Task observed) {
+        List<TaskBatch.Operation> operations = batch.operations();
+        if (operations.isEmpty()) return 0;
+        int version = 0;
+        checkExpectations(operations);
+        WriteAheadLog log = writeAheadLog;
+        long lsn = 0;
+        RuntimeException failure;
+        boolean[] stripes = new boolean[taskLocks.size()];
+        for (TaskBatch.Operation operation : operations) {
+            stripes[taskLocks.stripeOf(operation.task().getId())] = true;
+        }
+        lockStripes(stripes);
+        try {
+            checkExpectations(operations);
+            if (!replaying) checkTransitions(operations);
+            LocalDateTime now = LocalDateTime.now();
+            if (log != null) {
+                byte[] record = encode(operations, now);
+                if (record != null) lsn = log.append(record);
+            }
+            failure = null;
+            for (TaskBatch.Operation operation : operations) {
+                if (operation.type() == TaskBatch.Type.EXPECT_VERSION
+                        || operation.type() == TaskBatch.Type.EXPECT_STATUS) continue;
+                Object oldValue = mutate(operation, now);
+                failure = combine(failure, notifyListeners(listener -> notify(listener, operation, oldValue)));
+            }
+            if (observed != null) version = observed.getVersion();
+        } finally {
+            unlockStripes(stripes);
+        }
+        awaitDurable(log, lsn);
+        rethrow(failure);
+        return version;
     }
+
+    // One BATCH record for the whole batch, encoded before any operation is applied; null when
+    // the batch only holds expectations. Each record carries the version its operation leaves the
+    // task at, and comments are placed after those queued before them.
+    private static byte[] encode(List<TaskBatch.Operation> operations, LocalDateTime now) {
+        List<byte[]> records = new ArrayList<>(operations.size());
+        Map<Task, Integer> versions = new IdentityHashMap<>();
+        Map<Task, Integer> queuedComments = null;
+        for (TaskBatch.Operation operation : operations) {
+            Task task = operation.task();
+            if (operation.type() == TaskBatch.Type.EXPECT_VERSION
+                    || operation.type() == TaskBatch.Type.EXPECT_STATUS) continue;
+            int version = versions.merge(task, task.getVersion() + 1, (last, next) -> last + 1);
+            switch (operation.type()) {
+                case COMMENT -> {
+                    if (queuedComments == null) queuedComments = new IdentityHashMap<>();
+                    int queued = queuedComments.merge(task, 1, Integer::sum) - 1;
+                    records.add(TaskLogCodec.encodeComment(task, version, task.getComments().size() + queued,
+                            (Comment) operation.value()));
+                }
+                case ASSIGN -> records.add(TaskLogCodec.encodeAssign(task, version, now, (User) operation.value()));
+                case STATUS -> records.add(TaskLogCodec.encodeStatus(task, version, now, (TaskStatus) operation.value()));
+                case PRIORITY -> records.add(TaskLogCodec.encodePriority(task, version, now,
+                        (TaskPriority) operation.value()));
+            }
+        }
+        return records.isEmpty() ? null : TaskLogCodec.encodeBatch(records);
+    }
+
+    private static void checkExpectations(List<TaskBatch.Operation> operations) {
+        for (TaskBatch.Operation operation : operations) {
+            Task task = operation.task();
+            switch (operation.type()) {
+                case EXPECT_VERSION -> {
+                    int version = task.getVersion();
+                    if (version != (Integer) operation.value()) {
+                        throw new TaskConflictException(task.getId(), version,
+                                "Task " + task.getId() + " is at version " + version + ", not " + operation.value());
+                    }
+                }
+                case EXPECT_STATUS -> {
+                    TaskStatus status = task.getTaskStatus();
+                    if (status != operation.value()) {
+                        throw new TaskConflictException(task.getId(), task.getVersion(),
+                                "Task " + task.getId() + " is " + status + ", not " + operation.value());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    // Walks the status changes in order, so a chain on one task is checked step by step.
+    private void checkTransitions(List<TaskBatch.Operation> operations) {
+        Map<Task, TaskStatus> pending = null;
+        for (TaskBatch.Operation operation : operations) {
+            if (operation.type() != TaskBatch.Type.STATUS) continue;
+            Task task = operation.task();
+            TaskStatus from = pending != null && pending.containsKey(task) ? pending.get(task) : task.getTaskStatus();
+            TaskStatus to = (TaskStatus) operation.value();
+            statusWorkflow.check(task, from, to);
+            if (pending == null) pending = new IdentityHashMap<>();
+            pending.put(task, to);
+        }
+    }
+
+    // Sets the status only if the task is still at expectedVersion; returns the new version.
+    public int updateTaskStatus(long taskId, int expectedVersion, TaskStatus status) {
+        Task task = requireTask(taskId);
+        return apply(new TaskBatch().expectVersion(task, expectedVersion).updateTaskStatus(task, status), task);
+    }
+
+    // Moves the task from one status to another only if it is still in the first; returns the new version.
+    public int transitionStatus(long taskId, TaskStatus from, TaskStatus to) {
+        Task task = requireTask(taskId);
+        return apply(new TaskBatch().expectStatus(task, from).updateTaskStatus(task, to), task);
+    }
+
+    // Ascending order, so any two multi-stripe writers agree on it and cannot deadlock.
+    private void lockStripes(boolean[] stripes) {
+        for (int i = 0; i < stripes.length; i++) {
+            if (stripes[i]) taskLocks.getAt(i).lock();
+        }
+    }
+
+    private void unlockStripes(boolean[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            if (stripes[i]) taskLocks.getAt(i).unlock();
+        }
+    }
+
+    // Applies one batch operation and returns the value it replaced.
+    private static Object mutate(TaskBatch.Operation operation, LocalDateTime now) {
+        Task task = operation.task();
+        Object oldValue = null;
+        switch (operation.type()) {
+            case COMMENT -> {
+                Comment comment = (Comment) operation.value();
+                task.setUpdatedAt(comment.getCreationTime());
+                task.addComment(comment);
+            }
+            case ASSIGN -> {
+                oldValue = task.getAssignee();
+                task.setUpdatedAt(now);
+                task.setAssignee((User) operation.value());
+            }
+            case STATUS -> {
+                oldValue = task.getTaskStatus();
+                task.setUpdatedAt(now);
+                task.setTaskStatus((TaskStatus) operation.value());
+            }
+            case PRIORITY -> {
+                oldValue = task.getTaskPriority();
+                task.setUpdatedAt(now);
+                task.setTaskPriority((TaskPriority) operation.value());
+            }
+            case EXPECT_VERSION, EXPECT_STATUS -> {
+                return null;
+            }
+        }
+        task.incrementVersion();
+        return oldValue;
+    }
+
+    private static void notify(TaskChangeListener listener, TaskBatch.Operation operation, Object oldValue) {
+        Task task = operation.task();
+        switch (operation.type()) {
+            case COMMENT -> listener.onCommentAdded(task, (Comment) operation.value());
+            case ASSIGN -> listener.onAssigneeChanged(task, (User) oldValue, (User) operation.value());
+            case STATUS -> listener.onStatusChanged(task, (TaskStatus) oldValue, (TaskStatus) operation.value());
+            case PRIORITY -> listener.onPriorityChanged(task, (TaskPriority) oldValue, (TaskPriority) operation.value());
+            case EXPECT_VERSION, EXPECT_STATUS -> {
+            }
+        }
+    }
+
     public List<Task> getTaskList() {
-        return new ArrayList<>(taskList);
+        return new ArrayList<>(taskList.snapshot());
+    }
+
+    // O(1) immutable view of the tasks added so far; safe to iterate while writers continue.
+    public AppendOnlyList.Snapshot<Task> snapshot() {
+        return taskList.snapshot();
     }
 }
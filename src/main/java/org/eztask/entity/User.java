@@ -1,17 +1,49 @@
 package org.eztask.entity;
 
-import java.util.UUID;
+import org.eztask.id.IdGenerator;
+import org.eztask.id.TimeOrderedIdGenerator;
 
 public class User {
-    private String id;
+    private static volatile IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+    private long id;
     private String name;
+    private volatile int tableSlot = UserTable.NO_USER;
 
     public User(String name) {
-        this.id = UUID.randomUUID().toString();
+        this(idGenerator.nextId(), name);
+    }
+
+    public User(long id, String name) {
+        this.id = id;
         this.name = name;
     }
 
+    public static void useIdGenerator(IdGenerator generator) {
+        idGenerator = generator;
+    }
+
+    public long getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
+
+    int getTableSlot() {
+        return tableSlot;
+    }
+
+    void setTableSlot(int tableSlot) {
+        this.tableSlot = tableSlot;
+    }
+
+    @Override
+    public String toString() {
+        return "User{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                '}';
+    }
 }
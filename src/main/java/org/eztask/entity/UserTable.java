@@ -0,0 +1,32 @@
+package org.eztask.entity;
+
+import org.eztask.concurrent.AppendOnlyList;
+
+// Process-wide table that lets tasks refer to users by a 4-byte slot instead of a reference.
+// Users are interned on first use by a task and stay for the life of the process.
+final class UserTable {
+    static final int NO_USER = -1;
+
+    private static final AppendOnlyList<User> USERS = new AppendOnlyList<>();
+
+    private UserTable() {
+    }
+
+    static int slotOf(User user) {
+        if (user == null) return NO_USER;
+        int slot = user.getTableSlot();
+        if (slot != NO_USER) return slot;
+        synchronized (user) {
+            slot = user.getTableSlot();
+            if (slot == NO_USER) {
+                slot = USERS.append(user);
+                user.setTableSlot(slot);
+            }
+            return slot;
+        }
+    }
+
+    static User userAt(int slot) {
+        return slot == NO_USER ? null : USERS.get(slot);
+    }
+}
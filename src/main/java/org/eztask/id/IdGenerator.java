@@ -0,0 +1,9 @@
+package org.eztask.id;
+
+// Ids must be unique and strictly increasing across all threads so they double as a creation-order key.
+public interface IdGenerator {
+    long nextId();
+
+    // Makes every later id greater than this one, e.g. after restoring ids issued by an earlier run.
+    void advancePast(long id);
+}
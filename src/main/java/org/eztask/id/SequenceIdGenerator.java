@@ -0,0 +1,25 @@
+package org.eztask.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SequenceIdGenerator implements IdGenerator {
+    private final AtomicLong sequence;
+
+    public SequenceIdGenerator() {
+        this(0);
+    }
+
+    public SequenceIdGenerator(long lastId) {
+        this.sequence = new AtomicLong(lastId);
+    }
+
+    @Override
+    public long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    @Override
+    public void advancePast(long id) {
+        sequence.accumulateAndGet(id, Math::max);
+    }
+}
@@ -0,0 +1,45 @@
+package org.eztask.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 41 bits of milliseconds since 2024-01-01 followed by a 22-bit sequence. When more than
+// 4M ids are drawn in one millisecond the sequence carries into the timestamp, so ids stay
+// strictly increasing and run at most slightly ahead of the clock.
+public class TimeOrderedIdGenerator implements IdGenerator {
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final int SEQUENCE_BITS = 22;
+
+    private final AtomicLong lastId = new AtomicLong();
+    private final LongSupplier clock;
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    public TimeOrderedIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        long floor = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        while (true) {
+            long last = lastId.get();
+            long next = floor > last ? floor : last + 1;
+            if (lastId.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    @Override
+    public void advancePast(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> SEQUENCE_BITS) + EPOCH_MILLIS;
+    }
+}
@@ -0,0 +1,47 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public abstract class BucketIndex<K> implements TaskIndex {
+    private final Map<K, Set<Task>> buckets;
+
+    protected BucketIndex(Map<K, Set<Task>> buckets) {
+        this.buckets = buckets;
+    }
+
+    // Translates search criteria into a bucket key, or null when the criteria can never match.
+    protected abstract K keyOf(Object criteria);
+
+    protected void add(K key, Task task) {
+        if (key == null) return;
+        buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(task);
+    }
+
+    protected void remove(K key, Task task) {
+        if (key == null) return;
+        Set<Task> bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.remove(task);
+        }
+    }
+
+    protected void move(Task task, K oldKey, K newKey) {
+        if (oldKey != null && oldKey.equals(newKey)) return;
+        remove(oldKey, task);
+        add(newKey, task);
+    }
+
+    @Override
+    public Collection<Task> lookup(Object criteria) {
+        K key = keyOf(criteria);
+        if (key == null) return Collections.emptySet();
+        Set<Task> bucket = buckets.get(key);
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+}
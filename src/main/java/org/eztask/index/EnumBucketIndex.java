@@ -0,0 +1,31 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public abstract class EnumBucketIndex<E extends Enum<E>> extends BucketIndex<E> {
+    private final Class<E> keyType;
+
+    protected EnumBucketIndex(Class<E> keyType) {
+        super(presized(keyType));
+        this.keyType = keyType;
+    }
+
+    // Every constant gets its bucket up front so the EnumMap is never structurally modified.
+    private static <E extends Enum<E>> Map<E, Set<Task>> presized(Class<E> keyType) {
+        Map<E, Set<Task>> buckets = new EnumMap<>(keyType);
+        for (E constant : keyType.getEnumConstants()) {
+            buckets.put(constant, ConcurrentHashMap.newKeySet());
+        }
+        return buckets;
+    }
+
+    @Override
+    protected E keyOf(Object criteria) {
+        return keyType.isInstance(criteria) ? keyType.cast(criteria) : null;
+    }
+}
@@ -0,0 +1,23 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.User;
+import org.eztask.search.TaskSearchType;
+
+public class TaskAssigneeIndex extends UserBucketIndex {
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.ASSIGNEE;
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        add(nameOf(task.getAssignee()), task);
+    }
+
+    @Override
+    public void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+        move(task, nameOf(oldAssignee), nameOf(newAssignee));
+    }
+}
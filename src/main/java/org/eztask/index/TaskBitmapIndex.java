@@ -0,0 +1,253 @@
+package org.eztask.index;
+
+import org.eztask.bitmap.RoaringBitmap;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskQuery;
+import org.eztask.search.TaskSearchType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// One compressed bitmap of Task.getRowId() values per status, priority, assignee name and
+// creater name. Writers never touch the bitmaps: a change is queued in one of many buffers
+// picked by row, so concurrent writers rarely share a lock and a row's changes stay in order.
+// Queries read the bitmaps under the read lock, first draining the buffers under the write lock
+// if any change is queued; a writer drains too once its buffer grows long, if nobody holds the lock.
+public class TaskBitmapIndex implements TaskChangeListener {
+    private static final RoaringBitmap NOT_INDEXED = new RoaringBitmap();
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+    private static final int BUFFERS = 64;
+    private static final int DRAIN_THRESHOLD = 1024;
+
+    private final Map<TaskStatus, RoaringBitmap> byStatus = presized(TaskStatus.class);
+    private final Map<TaskPriority, RoaringBitmap> byPriority = presized(TaskPriority.class);
+    private final Map<String, RoaringBitmap> byAssignee = new ConcurrentHashMap<>();
+    private final Map<String, RoaringBitmap> byCreater = new ConcurrentHashMap<>();
+    private final AtomicInteger rowCount = new AtomicInteger();
+    private final ChangeBuffer[] buffers = new ChangeBuffer[BUFFERS];
+    private final LongAdder queuedChanges = new LongAdder();
+    private final ReentrantReadWriteLock bitmapLock = new ReentrantReadWriteLock();
+
+    public TaskBitmapIndex() {
+        for (int i = 0; i < BUFFERS; i++) {
+            buffers[i] = new ChangeBuffer();
+        }
+    }
+
+    // Moves the row out of one bitmap and into another; either may be null.
+    private record Change(RoaringBitmap from, RoaringBitmap to, int row) {
+    }
+
+    private static final class ChangeBuffer {
+        List<Change> changes = new ArrayList<>();
+    }
+
+    private static <E extends Enum<E>> Map<E, RoaringBitmap> presized(Class<E> keyType) {
+        Map<E, RoaringBitmap> bitmaps = new EnumMap<>(keyType);
+        for (E constant : keyType.getEnumConstants()) {
+            bitmaps.put(constant, new RoaringBitmap());
+        }
+        return bitmaps;
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        int row = task.getRowId();
+        if (row < 0) return;
+        move(null, statusBitmap(task.getTaskStatus()), row);
+        move(null, priorityBitmap(task.getTaskPriority()), row);
+        move(null, userBitmap(byAssignee, task.getAssignee(), true), row);
+        move(null, userBitmap(byCreater, task.getCreater(), true), row);
+        rowCount.accumulateAndGet(row + 1, Math::max);
+    }
+
+    // New rows have no queued changes, so a bulk run goes straight into the bitmaps in one pass.
+    @Override
+    public void onTasksAdded(List<Task> tasks) {
+        int maxRow = -1;
+        bitmapLock.writeLock().lock();
+        try {
+            for (Task task : tasks) {
+                int row = task.getRowId();
+                if (row < 0) continue;
+                add(statusBitmap(task.getTaskStatus()), row);
+                add(priorityBitmap(task.getTaskPriority()), row);
+                add(userBitmap(byAssignee, task.getAssignee(), true), row);
+                add(userBitmap(byCreater, task.getCreater(), true), row);
+                maxRow = Math.max(maxRow, row);
+            }
+        } finally {
+            bitmapLock.writeLock().unlock();
+        }
+        rowCount.accumulateAndGet(maxRow + 1, Math::max);
+    }
+
+    @Override
+    public void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+        move(userBitmap(byAssignee, oldAssignee, false), userBitmap(byAssignee, newAssignee, true), task.getRowId());
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        move(statusBitmap(oldStatus), statusBitmap(newStatus), task.getRowId());
+    }
+
+    @Override
+    public void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+        move(priorityBitmap(oldPriority), priorityBitmap(newPriority), task.getRowId());
+    }
+
+    // Exact row set for the query, or null if any leaf has no bitmap. The result is a private copy.
+    public RoaringBitmap evaluate(TaskQuery query) {
+        bitmapLock.readLock().lock();
+        // Drains only run under the write lock, so while the read lock is held the count can only grow.
+        if (queuedChanges.sum() != 0) {
+            bitmapLock.readLock().unlock();
+            bitmapLock.writeLock().lock();
+            try {
+                drain();
+                // Downgrade, so other queries can read while this one runs.
+                bitmapLock.readLock().lock();
+            } finally {
+                bitmapLock.writeLock().unlock();
+            }
+        }
+        try {
+            return evaluateDrained(query);
+        } finally {
+            bitmapLock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap evaluateDrained(TaskQuery query) {
+        if (query instanceof TaskQuery.Where where) {
+            RoaringBitmap bitmap = bitmapFor(where.strategy().getSearchType(), where.criteria());
+            if (bitmap == NOT_INDEXED) return null;
+            if (bitmap == null) return new RoaringBitmap();
+            return bitmap.copy();
+        }
+        if (query instanceof TaskQuery.And and) {
+            return fold(and.queries(), true);
+        }
+        if (query instanceof TaskQuery.Or or) {
+            return fold(or.queries(), false);
+        }
+        if (query instanceof TaskQuery.Not not) {
+            RoaringBitmap excluded = evaluateDrained(not.query());
+            if (excluded == null) return null;
+            RoaringBitmap result = RoaringBitmap.range(0, rowCount.get());
+            result.andNot(excluded);
+            return result;
+        }
+        return null;
+    }
+
+    // Number of matching rows, or -1 if the query cannot be answered from the bitmaps alone.
+    public long count(TaskQuery query) {
+        RoaringBitmap rows = evaluate(query);
+        return rows == null ? -1 : rows.cardinality();
+    }
+
+    private RoaringBitmap fold(List<TaskQuery> children, boolean intersect) {
+        RoaringBitmap result = null;
+        for (TaskQuery child : children) {
+            // Plain leaves are folded in directly instead of being copied first.
+            if (result != null && child instanceof TaskQuery.Where where) {
+                RoaringBitmap bitmap = bitmapFor(where.strategy().getSearchType(), where.criteria());
+                if (bitmap == NOT_INDEXED) return null;
+                combine(result, bitmap == null ? EMPTY : bitmap, intersect);
+                continue;
+            }
+            RoaringBitmap next = evaluateDrained(child);
+            if (next == null) return null;
+            if (result == null) {
+                result = next;
+            } else {
+                combine(result, next, intersect);
+            }
+        }
+        return result == null ? new RoaringBitmap() : result;
+    }
+
+    private static void combine(RoaringBitmap result, RoaringBitmap operand, boolean intersect) {
+        if (intersect) {
+            result.and(operand);
+        } else {
+            result.or(operand);
+        }
+    }
+
+    // NOT_INDEXED for search types without bitmaps; null for criteria that match nothing.
+    private RoaringBitmap bitmapFor(TaskSearchType searchType, Object criteria) {
+        if (searchType == null) return NOT_INDEXED;
+        return switch (searchType) {
+            case STATUS -> criteria instanceof TaskStatus status ? byStatus.get(status) : null;
+            case PRIORITY -> criteria instanceof TaskPriority priority ? byPriority.get(priority) : null;
+            case ASSIGNEE -> criteria instanceof User user ? userBitmap(byAssignee, user, false) : null;
+            case CREATER -> criteria instanceof User user ? userBitmap(byCreater, user, false) : null;
+            case TEXT -> NOT_INDEXED;
+        };
+    }
+
+    private RoaringBitmap statusBitmap(TaskStatus status) {
+        return status == null ? null : byStatus.get(status);
+    }
+
+    private RoaringBitmap priorityBitmap(TaskPriority priority) {
+        return priority == null ? null : byPriority.get(priority);
+    }
+
+    private static RoaringBitmap userBitmap(Map<String, RoaringBitmap> bitmaps, User user, boolean create) {
+        if (user == null || user.getName() == null) return null;
+        return create ? bitmaps.computeIfAbsent(user.getName(), name -> new RoaringBitmap()) : bitmaps.get(user.getName());
+    }
+
+    private static void add(RoaringBitmap bitmap, int row) {
+        if (bitmap != null) bitmap.add(row);
+    }
+
+    private void move(RoaringBitmap from, RoaringBitmap to, int row) {
+        if (row < 0 || from == to) return;
+        ChangeBuffer buffer = buffers[row & (BUFFERS - 1)];
+        int queued;
+        synchronized (buffer) {
+            buffer.changes.add(new Change(from, to, row));
+            queued = buffer.changes.size();
+        }
+        queuedChanges.increment();
+        if (queued >= DRAIN_THRESHOLD && bitmapLock.writeLock().tryLock()) {
+            try {
+                drain();
+            } finally {
+                bitmapLock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Caller holds the write lock.
+    private void drain() {
+        for (ChangeBuffer buffer : buffers) {
+            List<Change> changes;
+            synchronized (buffer) {
+                if (buffer.changes.isEmpty()) continue;
+                changes = buffer.changes;
+                buffer.changes = new ArrayList<>();
+            }
+            queuedChanges.add(-changes.size());
+            for (Change change : changes) {
+                if (change.from() != null) change.from().remove(change.row());
+                add(change.to(), change.row());
+            }
+        }
+    }
+}
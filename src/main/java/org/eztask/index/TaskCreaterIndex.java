@@ -0,0 +1,17 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+import org.eztask.search.TaskSearchType;
+
+public class TaskCreaterIndex extends UserBucketIndex {
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.CREATER;
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        add(nameOf(task.getCreater()), task);
+    }
+}
@@ -0,0 +1,28 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.search.TaskSearchType;
+
+import java.util.Collection;
+
+public interface TaskIndex extends TaskChangeListener {
+    TaskSearchType getSearchType();
+
+    Collection<Task> lookup(Object criteria);
+
+    // Upper bound on lookup(criteria).size(), for planning; override when a lookup is expensive.
+    default long estimate(Object criteria) {
+        return lookup(criteria).size();
+    }
+
+    // True when lookup(criteria) holds only tasks that still match, so callers need not re-check them.
+    default boolean isExact() {
+        return false;
+    }
+
+    // True when lookup(criteria) orders tasks best first, an order callers should keep.
+    default boolean isRanked() {
+        return false;
+    }
+}
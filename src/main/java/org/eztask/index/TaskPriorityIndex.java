@@ -0,0 +1,27 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+import org.eztask.enums.TaskPriority;
+import org.eztask.search.TaskSearchType;
+
+public class TaskPriorityIndex extends EnumBucketIndex<TaskPriority> {
+
+    public TaskPriorityIndex() {
+        super(TaskPriority.class);
+    }
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.PRIORITY;
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        add(task.getTaskPriority(), task);
+    }
+
+    @Override
+    public void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+        move(task, oldPriority, newPriority);
+    }
+}
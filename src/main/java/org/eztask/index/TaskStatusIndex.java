@@ -0,0 +1,27 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskSearchType;
+
+public class TaskStatusIndex extends EnumBucketIndex<TaskStatus> {
+
+    public TaskStatusIndex() {
+        super(TaskStatus.class);
+    }
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.STATUS;
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        add(task.getTaskStatus(), task);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        move(task, oldStatus, newStatus);
+    }
+}
@@ -0,0 +1,22 @@
+package org.eztask.index;
+
+import org.eztask.entity.User;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Keyed by user name to match the semantics of the assignee and creater search strategies.
+public abstract class UserBucketIndex extends BucketIndex<String> {
+
+    protected UserBucketIndex() {
+        super(new ConcurrentHashMap<>());
+    }
+
+    protected static String nameOf(User user) {
+        return user == null ? null : user.getName();
+    }
+
+    @Override
+    protected String keyOf(Object criteria) {
+        return criteria instanceof User ? ((User) criteria).getName() : null;
+    }
+}
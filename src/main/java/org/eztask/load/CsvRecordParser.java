@@ -0,0 +1,65 @@
+package org.eztask.load;
+
+import java.nio.charset.StandardCharsets;
+
+// One record per line, columns named by the header line. Fields may be double-quoted to hold
+// commas, with "" standing for a quote; line breaks inside fields are not supported, which is
+// what lets the loader split the file at arbitrary offsets.
+final class CsvRecordParser implements RecordParser {
+    private final TaskColumn[] columns;
+
+    private CsvRecordParser(TaskColumn[] columns) {
+        this.columns = columns;
+    }
+
+    static CsvRecordParser fromHeader(String header) {
+        String[] names = header.replace("\uFEFF", "").strip().split(",", -1);
+        TaskColumn[] columns = new TaskColumn[names.length];
+        for (int i = 0; i < names.length; i++) {
+            columns[i] = TaskColumn.named(names[i].replace("\"", ""));
+        }
+        return new CsvRecordParser(columns);
+    }
+
+    @Override
+    public boolean parse(byte[] buf, int from, int to, String[] values) {
+        if (to > from && buf[to - 1] == '\r') to--;
+        if (to == from) return false;
+        int field = 0;
+        int pos = from;
+        while (true) {
+            int end;
+            String value;
+            if (pos < to && buf[pos] == '"') {
+                int close = pos + 1;
+                boolean escaped = false;
+                while (true) {
+                    if (close >= to) throw new IllegalArgumentException("Unterminated quoted field");
+                    if (buf[close] == '"') {
+                        if (close + 1 < to && buf[close + 1] == '"') {
+                            escaped = true;
+                            close += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    close++;
+                }
+                value = new String(buf, pos + 1, close - pos - 1, StandardCharsets.UTF_8);
+                if (escaped) value = value.replace("\"\"", "\"");
+                end = close + 1;
+                if (end < to && buf[end] != ',') throw new IllegalArgumentException("Text after closing quote");
+            } else {
+                end = pos;
+                while (end < to && buf[end] != ',') end++;
+                value = new String(buf, pos, end - pos, StandardCharsets.UTF_8);
+            }
+            if (field < columns.length && columns[field] != null) {
+                values[columns[field].ordinal()] = value;
+            }
+            field++;
+            if (end >= to) return true;
+            pos = end + 1;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.eztask.load;
+
+import java.nio.charset.StandardCharsets;
+
+// One flat JSON object per line. Strings, numbers, booleans and null are accepted as field
+// values; nested objects and arrays are rejected. Unknown keys are skipped. Keeps the line
+// being read in fields, so each parsing thread needs its own instance.
+final class JsonLinesRecordParser implements RecordParser {
+    private byte[] buf;
+    private int pos;
+    private int to;
+
+    @Override
+    public boolean parse(byte[] buf, int from, int to, String[] values) {
+        this.buf = buf;
+        this.pos = from;
+        this.to = to;
+        skipWhitespace();
+        if (pos == to) return false;
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+        } else {
+            while (true) {
+                skipWhitespace();
+                String key = readString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                String value = readValue();
+                TaskColumn column = TaskColumn.named(key);
+                if (column != null) values[column.ordinal()] = value;
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                    continue;
+                }
+                expect('}');
+                break;
+            }
+        }
+        skipWhitespace();
+        if (pos != to) throw new IllegalArgumentException("Text after JSON object");
+        return true;
+    }
+
+    private String readValue() {
+        byte first = peek();
+        if (first == '"') return readString();
+        if (first == '{' || first == '[') throw new IllegalArgumentException("Nested values are not supported");
+        int start = pos;
+        while (pos < to && buf[pos] != ',' && buf[pos] != '}' && !isWhitespace(buf[pos])) pos++;
+        String literal = new String(buf, start, pos - start, StandardCharsets.US_ASCII);
+        if (literal.isEmpty()) throw new IllegalArgumentException("Missing value");
+        return literal.equals("null") ? null : literal;
+    }
+
+    private String readString() {
+        expect('"');
+        int start = pos;
+        while (pos < to && buf[pos] != '"' && buf[pos] != '\\') pos++;
+        if (pos < to && buf[pos] == '"') {
+            return new String(buf, start, pos++ - start, StandardCharsets.UTF_8);
+        }
+        StringBuilder text = new StringBuilder(new String(buf, start, pos - start, StandardCharsets.UTF_8));
+        while (true) {
+            if (pos >= to) throw new IllegalArgumentException("Unterminated string");
+            byte b = buf[pos];
+            if (b == '"') {
+                pos++;
+                return text.toString();
+            }
+            if (b != '\\') {
+                int run = pos;
+                while (pos < to && buf[pos] != '"' && buf[pos] != '\\') pos++;
+                text.append(new String(buf, run, pos - run, StandardCharsets.UTF_8));
+                continue;
+            }
+            if (pos + 1 >= to) throw new IllegalArgumentException("Unterminated string");
+            byte escape = buf[pos + 1];
+            pos += 2;
+            switch (escape) {
+                case '"', '\\', '/' -> text.append((char) escape);
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                case 't' -> text.append('\t');
+                case 'u' -> {
+                    if (pos + 4 > to) throw new IllegalArgumentException("Truncated unicode escape");
+                    text.append((char) Integer.parseInt(new String(buf, pos, 4, StandardCharsets.US_ASCII), 16));
+                    pos += 4;
+                }
+                default -> throw new IllegalArgumentException("Invalid escape \\" + (char) escape);
+            }
+        }
+    }
+
+    private byte peek() {
+        if (pos >= to) throw new IllegalArgumentException("Unexpected end of line");
+        return buf[pos];
+    }
+
+    private void expect(char c) {
+        if (peek() != c) throw new IllegalArgumentException("Expected '" + c + "'");
+        pos++;
+    }
+
+    private void skipWhitespace() {
+        while (pos < to && isWhitespace(buf[pos])) pos++;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+}
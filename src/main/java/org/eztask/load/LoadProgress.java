@@ -0,0 +1,22 @@
+package org.eztask.load;
+
+import java.time.Duration;
+
+// Tasks added to the TaskManager and bytes consumed so far, as reported after every range.
+public record LoadProgress(long tasks, long bytesRead, long totalBytes, Duration elapsed) {
+
+    public double fractionDone() {
+        return totalBytes == 0 ? 1.0 : (double) bytesRead / totalBytes;
+    }
+
+    public double tasksPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : tasks * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d tasks, %.1f%% of %,d bytes in %d ms (%,.0f tasks/s)",
+                tasks, fractionDone() * 100, totalBytes, elapsed.toMillis(), tasksPerSecond());
+    }
+}
@@ -0,0 +1,7 @@
+package org.eztask.load;
+
+// Splits one line of a dump into field values indexed by TaskColumn ordinal.
+interface RecordParser {
+    // Returns false for a blank line. Columns absent from the record are left null.
+    boolean parse(byte[] buf, int from, int to, String[] values);
+}
@@ -0,0 +1,225 @@
+package org.eztask.load;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Streams a CSV or JSON-lines dump into the TaskManager. The file is cut into fixed-size byte
+// ranges that parser threads read with positional FileChannel reads and parse independently;
+// a line belongs to the range holding its first byte. Parsed ranges are committed in file
+// order through TaskManager.addTasks, so rows keep the dump's order and every index sees a
+// whole range at once. At most two ranges per thread are in flight, bounding memory.
+// Records already committed stay loaded if a later one turns out to be malformed or repeats
+// an id; explicit ids move the id generator past them, so tasks created later cannot collide.
+public class TaskBulkLoader {
+    public enum Format {
+        CSV,
+        JSON_LINES;
+
+        public static Format of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) return CSV;
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson") || name.endsWith(".json")) return JSON_LINES;
+            throw new IllegalArgumentException("Cannot tell the format of " + file);
+        }
+    }
+
+    static final int DEFAULT_CHUNK_BYTES = 4 << 20;
+    private static final int LINE_OVERSHOOT = 64 << 10;
+    private static final AtomicInteger LOADER_THREADS = new AtomicInteger();
+
+    private final TaskManager taskManager;
+    private final int threads;
+    private final int chunkBytes;
+    private final Consumer<LoadProgress> progress;
+
+    public TaskBulkLoader(TaskManager taskManager) {
+        this(taskManager, Runtime.getRuntime().availableProcessors(), progress -> {
+        });
+    }
+
+    public TaskBulkLoader(TaskManager taskManager, int threads, Consumer<LoadProgress> progress) {
+        this(taskManager, threads, DEFAULT_CHUNK_BYTES, progress);
+    }
+
+    TaskBulkLoader(TaskManager taskManager, int threads, int chunkBytes, Consumer<LoadProgress> progress) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("chunkBytes must be positive: " + chunkBytes);
+        }
+        this.taskManager = taskManager;
+        this.threads = threads;
+        this.chunkBytes = chunkBytes;
+        this.progress = progress;
+    }
+
+    public LoadProgress load(Path file) throws IOException {
+        return load(file, Format.of(file));
+    }
+
+    public LoadProgress load(Path file, Format format) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = 0;
+            Supplier<RecordParser> parsers;
+            if (format == Format.CSV) {
+                byte[] header = readLine(channel, 0, size);
+                dataStart = Math.min(size, header.length + 1L);
+                CsvRecordParser csv = CsvRecordParser.fromHeader(new String(header, StandardCharsets.UTF_8));
+                parsers = () -> csv;
+            } else {
+                parsers = JsonLinesRecordParser::new;
+            }
+            TaskRecordFactory factory = new TaskRecordFactory(LocalDateTime.now());
+            ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "task-loader-" + LOADER_THREADS.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            Deque<Future<List<Task>>> inFlight = new ArrayDeque<>();
+            long tasks = 0;
+            long bytesRead = dataStart;
+            try {
+                for (long from = dataStart; from < size || !inFlight.isEmpty(); ) {
+                    if (from < size && inFlight.size() < 2 * threads) {
+                        long rangeFrom = from;
+                        long rangeTo = Math.min(size, from + chunkBytes);
+                        long first = dataStart;
+                        inFlight.add(executor.submit(() -> parseRange(channel, size, first, rangeFrom, rangeTo, parsers.get(), factory)));
+                        from = rangeTo;
+                        continue;
+                    }
+                    List<Task> parsed = await(inFlight.poll());
+                    if (bytesRead == dataStart && !parsed.isEmpty()) {
+                        // Extrapolate from the first range so row storage is allocated once up front.
+                        taskManager.reserve((int) Math.min(Integer.MAX_VALUE, parsed.size() * (size - dataStart) / Math.min(chunkBytes, size - dataStart)));
+                    }
+                    tasks += taskManager.addTasks(parsed);
+                    bytesRead = Math.min(size, bytesRead + chunkBytes);
+                    progress.accept(new LoadProgress(tasks, bytesRead, size, Duration.ofNanos(System.nanoTime() - start)));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            return new LoadProgress(tasks, size, size, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private List<Task> parseRange(FileChannel channel, long size, long dataStart, long from, long to,
+                                  RecordParser parser, TaskRecordFactory factory) throws IOException {
+        // Reading one byte early tells whether `from` starts a line; reading past `to` finishes the last one.
+        long readFrom = from == dataStart ? from : from - 1;
+        int overshoot = LINE_OVERSHOOT;
+        retry:
+        while (true) {
+            long readTo = Math.min(size, to + overshoot);
+            boolean atEnd = readTo == size;
+            byte[] buf = read(channel, readFrom, readTo);
+            int limit = (int) (to - readFrom);
+            int pos = 0;
+            if (readFrom < from) {
+                int newline = indexOf(buf, 0);
+                if (newline < 0) {
+                    if (atEnd) return List.of();
+                    overshoot *= 2;
+                    continue;
+                }
+                pos = newline + 1;
+            }
+            List<Task> tasks = new ArrayList<>(Math.max(16, limit / 128));
+            long maxId = Long.MIN_VALUE;
+            String[] values = new String[TaskColumn.values().length];
+            while (pos < limit) {
+                int newline = indexOf(buf, pos);
+                if (newline < 0) {
+                    if (!atEnd) {
+                        overshoot *= 2;
+                        continue retry;
+                    }
+                    newline = buf.length;
+                }
+                Arrays.fill(values, null);
+                try {
+                    if (parser.parse(buf, pos, newline, values)) {
+                        Task task = factory.create(values);
+                        maxId = Math.max(maxId, task.getId());
+                        tasks.add(task);
+                    }
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Malformed record at byte " + (readFrom + pos) + ": " + e.getMessage(), e);
+                }
+                pos = newline + 1;
+            }
+            if (!tasks.isEmpty()) Task.advanceIdsPast(maxId);
+            return tasks;
+        }
+    }
+
+    private static byte[] readLine(FileChannel channel, long from, long size) throws IOException {
+        for (long window = 4096; ; window *= 2) {
+            long to = Math.min(size, from + window);
+            byte[] buf = read(channel, from, to);
+            int newline = indexOf(buf, 0);
+            if (newline >= 0) return Arrays.copyOf(buf, newline);
+            if (to == size) return buf;
+        }
+    }
+
+    private static byte[] read(FileChannel channel, long from, long to) throws IOException {
+        byte[] buf = new byte[(int) (to - from)];
+        ByteBuffer target = ByteBuffer.wrap(buf);
+        while (target.hasRemaining()) {
+            if (channel.read(target, from + target.position()) < 0) break;
+        }
+        return buf;
+    }
+
+    private static int indexOf(byte[] buf, int from) {
+        for (int i = from; i < buf.length; i++) {
+            if (buf[i] == '\n') return i;
+        }
+        return -1;
+    }
+
+    private static List<Task> await(Future<List<Task>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading tasks");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof UncheckedIOException io) throw io.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        }
+    }
+}
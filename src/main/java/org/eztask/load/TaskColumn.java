@@ -0,0 +1,41 @@
+package org.eztask.load;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Fields a dump may carry for a task, under their CSV header or JSON key names.
+enum TaskColumn {
+    ID("id"),
+    TITLE("title"),
+    DESC("desc", "description"),
+    CREATER("creater", "creator"),
+    ASSIGNEE("assignee"),
+    STATUS("status", "taskStatus"),
+    PRIORITY("priority", "taskPriority"),
+    CREATED_AT("createdAt", "created_at"),
+    UPDATED_AT("updatedAt", "updated_at");
+
+    private static final Map<String, TaskColumn> BY_NAME = new HashMap<>();
+
+    static {
+        for (TaskColumn column : values()) {
+            for (String name : column.names) {
+                BY_NAME.put(name, column);
+                BY_NAME.put(name.toLowerCase(Locale.ROOT), column);
+            }
+        }
+    }
+
+    private final String[] names;
+
+    TaskColumn(String... names) {
+        this.names = names;
+    }
+
+    // Null for names the loader does not know, which are skipped.
+    static TaskColumn named(String name) {
+        TaskColumn column = BY_NAME.get(name);
+        return column != null ? column : BY_NAME.get(name.trim().toLowerCase(Locale.ROOT));
+    }
+}
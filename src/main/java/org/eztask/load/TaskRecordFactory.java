@@ -0,0 +1,97 @@
+package org.eztask.load;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Turns parsed field values into tasks. Shared by all parser threads of one load, so a user
+// name maps to one User throughout the dump. Tasks without an id get a fresh one and tasks
+// without a creation time get the time the load started, instead of a clock read each.
+final class TaskRecordFactory {
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final LocalDateTime loadTime;
+
+    TaskRecordFactory(LocalDateTime loadTime) {
+        this.loadTime = loadTime;
+    }
+
+    Task create(String[] values) {
+        String id = value(values, TaskColumn.ID);
+        String createdAt = value(values, TaskColumn.CREATED_AT);
+        Task task = new Task(id == null ? Task.nextId() : Long.parseLong(id),
+                value(values, TaskColumn.TITLE),
+                value(values, TaskColumn.DESC),
+                user(value(values, TaskColumn.CREATER)),
+                createdAt == null ? loadTime : parseTime(createdAt));
+        String updatedAt = value(values, TaskColumn.UPDATED_AT);
+        if (updatedAt != null) task.setUpdatedAt(parseTime(updatedAt));
+        task.setAssignee(user(value(values, TaskColumn.ASSIGNEE)));
+        String status = value(values, TaskColumn.STATUS);
+        if (status != null) task.setTaskStatus(constant(STATUSES, status));
+        String priority = value(values, TaskColumn.PRIORITY);
+        if (priority != null) task.setTaskPriority(constant(PRIORITIES, priority));
+        return task;
+    }
+
+    private static String value(String[] values, TaskColumn column) {
+        String value = values[column.ordinal()];
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private User user(String name) {
+        return name == null ? null : users.computeIfAbsent(name, User::new);
+    }
+
+    private static <E extends Enum<E>> E constant(E[] constants, String name) {
+        for (E constant : constants) {
+            if (constant.name().equals(name)) return constant;
+        }
+        throw new IllegalArgumentException("Unknown " + constants[0].getDeclaringClass().getSimpleName() + " " + name);
+    }
+
+    // Fixed-width yyyy-MM-ddTHH:mm:ss[.fraction] is read digit by digit; anything else goes
+    // through LocalDateTime.parse, which also produces the error for malformed values.
+    static LocalDateTime parseTime(String text) {
+        int length = text.length();
+        if (length >= 19 && length <= 29 && text.charAt(4) == '-' && text.charAt(7) == '-'
+                && text.charAt(10) == 'T' && text.charAt(13) == ':' && text.charAt(16) == ':'
+                && (length == 19 || text.charAt(19) == '.' && length > 20)) {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 7);
+            int day = digits(text, 8, 10);
+            int hour = digits(text, 11, 13);
+            int minute = digits(text, 14, 16);
+            int second = digits(text, 17, 19);
+            int nanos = 0;
+            if (length > 19) {
+                nanos = digits(text, 20, length);
+                for (int i = length; i < 29; i++) {
+                    nanos *= 10;
+                }
+            }
+            if ((year | month | day | hour | minute | second | nanos) >= 0) {
+                return LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+            }
+        }
+        return LocalDateTime.parse(text);
+    }
+
+    // -1 if any character is not a digit.
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,193 @@
+package org.eztask.search;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+// Standing queries over TaskManager mutations. A query on an indexed field is routed by its
+// key (status, priority or user name), so a mutation only reaches the subscriptions keyed by
+// the task's old and new values, however many others are registered. Queries on other fields
+// are evaluated against every changed task. Every subscription remembers which tasks it
+// currently matches, so it only hears that a task left when it held that task.
+public class ContinuousQueryRegistry implements TaskChangeListener {
+    private static final List<TaskSearchType> ROUTED_TYPES =
+            List.of(TaskSearchType.STATUS, TaskSearchType.PRIORITY, TaskSearchType.ASSIGNEE, TaskSearchType.CREATER);
+
+    private final Supplier<List<Task>> snapshot;
+    private final Map<TaskSearchType, Map<Object, List<Subscription>>> routes = new EnumMap<>(TaskSearchType.class);
+    private final List<Subscription> unrouted = new CopyOnWriteArrayList<>();
+
+    public ContinuousQueryRegistry(Supplier<List<Task>> snapshot) {
+        this.snapshot = snapshot;
+        for (TaskSearchType type : ROUTED_TYPES) {
+            routes.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    public final class Subscription implements AutoCloseable {
+        private final TaskSearchStrategy strategy;
+        private final Object criteria;
+        private final TaskQueryListener listener;
+        private final Object key;
+        private final Set<Long> matching;
+
+        private Subscription(TaskSearchStrategy strategy, Object criteria, TaskQueryListener listener, Object key) {
+            this.strategy = strategy;
+            this.criteria = criteria;
+            this.listener = listener;
+            this.key = key;
+            this.matching = ConcurrentHashMap.newKeySet();
+        }
+
+        private boolean matches(Task task) {
+            return strategy.matches(task, criteria);
+        }
+
+        @Override
+        public void close() {
+            if (key == null) {
+                unrouted.remove(this);
+            } else {
+                routes.get(strategy.getSearchType()).computeIfPresent(key, (k, list) -> {
+                    list.remove(this);
+                    return list.isEmpty() ? null : list;
+                });
+            }
+        }
+    }
+
+    // Events start with the next mutation. The tasks that match already are collected before
+    // the subscription becomes visible, so no event can reach it ahead of that scan.
+    public Subscription subscribe(TaskSearchStrategy strategy, Object criteria, TaskQueryListener listener) {
+        TaskSearchType type = strategy.getSearchType();
+        Object key = routes.containsKey(type) ? keyOfCriteria(type, criteria) : null;
+        Subscription subscription = new Subscription(strategy, criteria, listener, key);
+        for (Task task : snapshot.get()) {
+            if ((key == null || key.equals(keyOfTask(type, task))) && subscription.matches(task)) {
+                subscription.matching.add(task.getId());
+            }
+        }
+        if (key == null) {
+            unrouted.add(subscription);
+        } else {
+            routes.get(type).computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(subscription);
+        }
+        return subscription;
+    }
+
+    public int size() {
+        int size = unrouted.size();
+        for (Map<Object, List<Subscription>> byKey : routes.values()) {
+            for (List<Subscription> subscriptions : byKey.values()) {
+                size += subscriptions.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        for (TaskSearchType type : ROUTED_TYPES) {
+            for (Subscription subscription : routed(type, keyOfTask(type, task))) {
+                evaluate(subscription, task);
+            }
+        }
+        for (Subscription subscription : unrouted) {
+            evaluate(subscription, task);
+        }
+    }
+
+    @Override
+    public void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+        changed(task, TaskSearchType.ASSIGNEE, nameOf(oldAssignee), nameOf(newAssignee));
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        changed(task, TaskSearchType.STATUS, oldStatus, newStatus);
+    }
+
+    @Override
+    public void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+        changed(task, TaskSearchType.PRIORITY, oldPriority, newPriority);
+    }
+
+    @Override
+    public void onCommentAdded(Task task, Comment comment) {
+        changed(task, null, null, null);
+    }
+
+    private void changed(Task task, TaskSearchType changedType, Object oldKey, Object newKey) {
+        for (TaskSearchType type : ROUTED_TYPES) {
+            if (type == changedType && !Objects.equals(oldKey, newKey)) {
+                for (Subscription subscription : routed(type, oldKey)) {
+                    evaluate(subscription, task);
+                }
+                for (Subscription subscription : routed(type, newKey)) {
+                    evaluate(subscription, task);
+                }
+            } else {
+                for (Subscription subscription : routed(type, keyOfTask(type, task))) {
+                    evaluate(subscription, task);
+                }
+            }
+        }
+        for (Subscription subscription : unrouted) {
+            evaluate(subscription, task);
+        }
+    }
+
+    private static void evaluate(Subscription subscription, Task task) {
+        boolean before = subscription.matching.contains(task.getId());
+        boolean after = subscription.matches(task);
+        if (after && before) {
+            subscription.listener.onChanged(task);
+        } else if (after) {
+            subscription.matching.add(task.getId());
+            subscription.listener.onAdded(task);
+        } else if (before) {
+            subscription.matching.remove(task.getId());
+            subscription.listener.onRemoved(task);
+        }
+    }
+
+    private List<Subscription> routed(TaskSearchType type, Object key) {
+        if (key == null) return List.of();
+        return routes.get(type).getOrDefault(key, List.of());
+    }
+
+    private static Object keyOfCriteria(TaskSearchType type, Object criteria) {
+        return switch (type) {
+            case STATUS -> criteria instanceof TaskStatus ? criteria : null;
+            case PRIORITY -> criteria instanceof TaskPriority ? criteria : null;
+            case ASSIGNEE, CREATER -> criteria instanceof User user ? user.getName() : null;
+            case TEXT -> null;
+        };
+    }
+
+    private static Object keyOfTask(TaskSearchType type, Task task) {
+        return switch (type) {
+            case STATUS -> task.getTaskStatus();
+            case PRIORITY -> task.getTaskPriority();
+            case ASSIGNEE -> nameOf(task.getAssignee());
+            case CREATER -> nameOf(task.getCreater());
+            case TEXT -> null;
+        };
+    }
+
+    private static String nameOf(User user) {
+        return user == null ? null : user.getName();
+    }
+}
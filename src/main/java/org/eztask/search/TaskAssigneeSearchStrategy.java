@@ -12,4 +12,9 @@ public class TaskAssigneeSearchStrategy implements TaskSearchStrategy {
             && task.getAssignee().getName() != null 
             && task.getAssignee().getName().equals(assignee.getName());
     }
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.ASSIGNEE;
+    }
 }
@@ -13,4 +13,9 @@ public class TaskCreaterSearchStrategy implements TaskSearchStrategy {
             && task.getCreater().getName() != null 
             && task.getCreater().getName().equals(creater.getName());
     }
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.CREATER;
+    }
 }
@@ -11,4 +11,9 @@ public class TaskPrioritySearchStrategy implements TaskSearchStrategy {
         TaskPriority taskPriority = (TaskPriority) criteria;
         return task.getTaskPriority() != null && task.getTaskPriority() == taskPriority;
     }
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.PRIORITY;
+    }
 }
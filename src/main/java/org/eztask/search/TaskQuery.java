@@ -0,0 +1,59 @@
+package org.eztask.search;
+
+import org.eztask.entity.Task;
+
+import java.util.List;
+
+public sealed interface TaskQuery {
+    boolean matches(Task task);
+
+    static TaskQuery where(TaskSearchStrategy strategy, Object criteria) {
+        return new Where(strategy, criteria);
+    }
+
+    static TaskQuery and(TaskQuery... queries) {
+        return new And(List.of(queries));
+    }
+
+    static TaskQuery or(TaskQuery... queries) {
+        return new Or(List.of(queries));
+    }
+
+    static TaskQuery not(TaskQuery query) {
+        return new Not(query);
+    }
+
+    record Where(TaskSearchStrategy strategy, Object criteria) implements TaskQuery {
+        @Override
+        public boolean matches(Task task) {
+            return strategy.matches(task, criteria);
+        }
+    }
+
+    record And(List<TaskQuery> queries) implements TaskQuery {
+        @Override
+        public boolean matches(Task task) {
+            for (TaskQuery query : queries) {
+                if (!query.matches(task)) return false;
+            }
+            return true;
+        }
+    }
+
+    record Or(List<TaskQuery> queries) implements TaskQuery {
+        @Override
+        public boolean matches(Task task) {
+            for (TaskQuery query : queries) {
+                if (query.matches(task)) return true;
+            }
+            return false;
+        }
+    }
+
+    record Not(TaskQuery query) implements TaskQuery {
+        @Override
+        public boolean matches(Task task) {
+            return !query.matches(task);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.eztask.search;
+
+import org.eztask.entity.Task;
+
+// Callbacks run on the mutating thread while the task's stripe lock is held, so events for
+// one task arrive in mutation order. Hand slow work off to another thread.
+public interface TaskQueryListener {
+    // The task matches the query now and did not before the mutation.
+    default void onAdded(Task task) {
+    }
+
+    // The task matched the query before the mutation and no longer does.
+    default void onRemoved(Task task) {
+    }
+
+    // The task matched before and still matches, but something about it changed.
+    default void onChanged(Task task) {
+    }
+}
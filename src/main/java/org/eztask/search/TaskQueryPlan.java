@@ -0,0 +1,64 @@
+package org.eztask.search;
+
+import org.eztask.entity.Task;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class TaskQueryPlan {
+    private final List<Collection<Task>> sources;
+    private final TaskQuery residual;
+    private final long estimatedCost;
+    private final boolean indexed;
+
+    TaskQueryPlan(List<Collection<Task>> sources, TaskQuery residual, long estimatedCost, boolean indexed) {
+        this.sources = sources;
+        this.residual = residual;
+        this.estimatedCost = estimatedCost;
+        this.indexed = indexed;
+    }
+
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    public long getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    public TaskQuery getResidual() {
+        return residual;
+    }
+
+    // One pass over the candidate sources; a task reachable from several sources is
+    // emitted only from the first one that contains it. Visited tasks are remembered by row,
+    // so sources are never probed with contains().
+    public List<Task> execute() {
+        List<Task> result = new ArrayList<>();
+        boolean dedupe = sources.size() > 1;
+        BitSet seenRows = dedupe ? new BitSet() : null;
+        Set<Long> seenIds = null;
+        for (Collection<Task> source : sources) {
+            for (Task task : source) {
+                if (dedupe) {
+                    int row = task.getRowId();
+                    if (row >= 0) {
+                        if (seenRows.get(row)) continue;
+                        seenRows.set(row);
+                    } else {
+                        if (seenIds == null) seenIds = new HashSet<>();
+                        if (!seenIds.add(task.getId())) continue;
+                    }
+                }
+                if (residual.matches(task)) {
+                    result.add(task);
+                }
+            }
+        }
+        return result;
+    }
+}
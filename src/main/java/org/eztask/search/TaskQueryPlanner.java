@@ -0,0 +1,137 @@
+package org.eztask.search;
+
+import org.eztask.bitmap.RoaringBitmap;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.index.TaskIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public class TaskQueryPlanner {
+    private final TaskManager taskManager;
+
+    public TaskQueryPlanner(TaskManager taskManager) {
+        this.taskManager = taskManager;
+    }
+
+    // Queries whose every leaf has a bitmap are answered by bitmap AND/OR/ANDNOT; the rest run
+    // the bucket-and-residual plan described by plan().
+    public List<Task> search(TaskQuery query) {
+        RoaringBitmap rows = taskManager.getBitmapIndex().evaluate(query);
+        if (rows == null) {
+            return plan(query).execute();
+        }
+        List<Task> snapshot = taskManager.snapshot();
+        List<Task> result = new ArrayList<>((int) rows.cardinality());
+        // Re-check matches: a task may change between the bitmap read and this one.
+        rows.forEach(row -> {
+            Task task = snapshot.get(row);
+            if (query.matches(task)) result.add(task);
+        });
+        return result;
+    }
+
+    public long count(TaskQuery query) {
+        long count = taskManager.getBitmapIndex().count(query);
+        return count >= 0 ? count : plan(query).execute().size();
+    }
+
+    public TaskQueryPlan plan(TaskQuery query) {
+        AccessPath path = accessPath(query);
+        if (path == null) {
+            Collection<Task> all = taskManager.snapshot();
+            return new TaskQueryPlan(List.of(all), reorder(query), all.size(), false);
+        }
+        return new TaskQueryPlan(path.sources, reorder(query), path.cost, true);
+    }
+
+    // Cheapest set of index buckets that is guaranteed to contain every match, or null if none
+    // exists. Only the leaves of the chosen path are looked up.
+    private AccessPath accessPath(TaskQuery query) {
+        if (query instanceof TaskQuery.Where where) {
+            TaskIndex index = taskManager.getIndex(where.strategy().getSearchType());
+            if (index == null) return null;
+            Collection<Task> bucket = index.lookup(where.criteria());
+            return new AccessPath(List.of(bucket), bucket.size());
+        }
+        if (query instanceof TaskQuery.And and) {
+            TaskQuery best = null;
+            long bestCost = Long.MAX_VALUE;
+            for (TaskQuery child : and.queries()) {
+                long cost = estimate(child);
+                if (cost < bestCost) {
+                    best = child;
+                    bestCost = cost;
+                }
+            }
+            return best == null ? null : accessPath(best);
+        }
+        if (query instanceof TaskQuery.Or or) {
+            List<Collection<Task>> sources = new ArrayList<>();
+            long cost = 0;
+            for (TaskQuery child : or.queries()) {
+                AccessPath path = accessPath(child);
+                if (path == null) return null;
+                sources.addAll(path.sources);
+                cost += path.cost;
+            }
+            return new AccessPath(sources, cost);
+        }
+        return null;
+    }
+
+    // Cost of accessPath(query) from index statistics, without running any lookup that has a
+    // cheaper estimate; Long.MAX_VALUE when there is no access path.
+    private long estimate(TaskQuery query) {
+        if (query instanceof TaskQuery.Where where) {
+            TaskIndex index = taskManager.getIndex(where.strategy().getSearchType());
+            return index == null ? Long.MAX_VALUE : index.estimate(where.criteria());
+        }
+        if (query instanceof TaskQuery.And and) {
+            long best = Long.MAX_VALUE;
+            for (TaskQuery child : and.queries()) {
+                best = Math.min(best, estimate(child));
+            }
+            return best;
+        }
+        if (query instanceof TaskQuery.Or or) {
+            long total = 0;
+            for (TaskQuery child : or.queries()) {
+                long cost = estimate(child);
+                if (cost == Long.MAX_VALUE) return Long.MAX_VALUE;
+                total += cost;
+            }
+            return total;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    // Most selective conjuncts first so the fused pass rejects non-matches as early as possible.
+    private TaskQuery reorder(TaskQuery query) {
+        if (query instanceof TaskQuery.And and) {
+            List<TaskQuery> children = new ArrayList<>();
+            for (TaskQuery child : and.queries()) {
+                children.add(reorder(child));
+            }
+            children.sort(Comparator.comparingLong(this::estimate));
+            return new TaskQuery.And(List.copyOf(children));
+        }
+        if (query instanceof TaskQuery.Or or) {
+            List<TaskQuery> children = new ArrayList<>();
+            for (TaskQuery child : or.queries()) {
+                children.add(reorder(child));
+            }
+            return new TaskQuery.Or(List.copyOf(children));
+        }
+        if (query instanceof TaskQuery.Not not) {
+            return new TaskQuery.Not(reorder(not.query()));
+        }
+        return query;
+    }
+
+    private record AccessPath(List<Collection<Task>> sources, long cost) {
+    }
+}
@@ -4,4 +4,9 @@ import org.eztask.entity.Task;
 
 public interface TaskSearchStrategy {
     boolean matches(Task task, Object criteria);
+
+    // Strategies over an indexed field report it so searches can skip the full scan.
+    default TaskSearchType getSearchType() {
+        return null;
+    }
 }
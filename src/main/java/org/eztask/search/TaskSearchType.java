@@ -4,6 +4,7 @@ public enum TaskSearchType {
     ASSIGNEE,
     PRIORITY,
     STATUS,
-    CREATER
+    CREATER,
+    TEXT
 }
 
@@ -1,19 +1,78 @@
 package org.eztask.search;
 
-import org.eztask.entity.Comment;
+import org.eztask.columnar.ColumnarTaskTable;
 import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.index.TaskIndex;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class TaskSearcher {
+    // Below this many tasks the fork/join split and merge cost more than a sequential filter.
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 32_768;
+
+    private static final Comparator<Task> IN_ROW_ORDER = Comparator.comparingInt(Task::getRowId);
+
     private TaskSearchStrategy strategy;
+    private final int parallelThreshold;
+    private final boolean preserveOrder;
 
     public TaskSearcher(TaskSearchStrategy strategy) {
+        this(strategy, DEFAULT_PARALLEL_THRESHOLD, true);
+    }
+
+    public TaskSearcher(TaskSearchStrategy strategy, int parallelThreshold, boolean preserveOrder) {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("parallelThreshold must not be negative: " + parallelThreshold);
+        }
         this.strategy = strategy;
+        this.parallelThreshold = parallelThreshold;
+        this.preserveOrder = preserveOrder;
     }
 
     public List<Task> search(List<Task> tasks, Object criteria) {
-        List<Task> result = tasks.stream().filter(task -> strategy.matches(task, criteria)).toList();
+        Stream<Task> stream = tasks.size() >= parallelThreshold ? tasks.parallelStream() : tasks.stream();
+        if (!preserveOrder) {
+            stream = stream.unordered();
+        }
+        List<Task> result = stream.filter(task -> strategy.matches(task, criteria)).toList();
         return result;
     }
+
+    public List<Task> search(TaskManager taskManager, Object criteria) {
+        TaskIndex index = taskManager.getIndex(strategy.getSearchType());
+        if (index == null) {
+            return search(taskManager.snapshot(), criteria);
+        }
+        Collection<Task> candidates = index.lookup(criteria);
+        List<Task> result;
+        if (index.isExact()) {
+            result = new ArrayList<>(candidates);
+        } else {
+            // Re-check candidates: a task may move buckets between the lookup and the read.
+            result = new ArrayList<>();
+            for (Task task : candidates) {
+                if (strategy.matches(task, criteria)) result.add(task);
+            }
+        }
+        // Buckets iterate in hash order; row order is insertion order, the same as a scan.
+        if (preserveOrder && !index.isRanked()) result.sort(IN_ROW_ORDER);
+        return result;
+    }
+
+    public List<Task> search(ColumnarTaskTable table, Object criteria) {
+        BitSet rows = table.where(strategy.getSearchType(), criteria);
+        if (rows == null) {
+            rows = new BitSet();
+            rows.set(0, table.size());
+            return search(table.tasks(rows), criteria);
+        }
+        // Re-check matches: a row may change between the column scan and the read.
+        return table.tasks(rows).stream().filter(task -> strategy.matches(task, criteria)).toList();
+    }
 }
@@ -10,4 +10,9 @@ public class TaskStatusSearchStrategy implements TaskSearchStrategy {
         TaskStatus taskStatus = (TaskStatus) criteria;
         return task.getTaskStatus() != null && task.getTaskStatus() == taskStatus;
     }
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.STATUS;
+    }
 }
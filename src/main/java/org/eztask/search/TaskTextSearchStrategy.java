@@ -0,0 +1,30 @@
+package org.eztask.search;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.text.Tokenizer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Matches tasks whose title, description or comments contain every term of the query.
+public class TaskTextSearchStrategy implements TaskSearchStrategy {
+    @Override
+    public boolean matches(Task task, Object criteria) {
+        if (!(criteria instanceof String)) return false;
+        List<String> terms = Tokenizer.tokenize((String) criteria);
+        if (terms.isEmpty()) return false;
+        Set<String> tokens = new HashSet<>(Tokenizer.tokenize(task.getTitle()));
+        tokens.addAll(Tokenizer.tokenize(task.getDesc()));
+        for (Comment comment : task.getComments()) {
+            tokens.addAll(Tokenizer.tokenize(comment.getText()));
+        }
+        return tokens.containsAll(terms);
+    }
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.TEXT;
+    }
+}
@@ -0,0 +1,115 @@
+package org.eztask.stats;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Live task counts by status x priority x assignee, keyed by user name like the assignee index,
+// plus a row of totals over all assignees. Every cell is a LongAdder, so writers on different
+// threads bump their own striped cells instead of contending on one counter, and a read is a
+// map lookup and a sum. Callbacks carry the old value, so each change moves one count from the
+// task's old cell to its new one without remembering anything per task.
+public class TaskCountCube implements TaskChangeListener {
+    private static final int PRIORITY_SLOTS = TaskPriority.values().length + 1;
+    private static final int CELLS = (TaskStatus.values().length + 1) * PRIORITY_SLOTS;
+    // Stands for a null user name, which the concurrent map cannot hold.
+    private static final Object NO_NAME = new Object();
+
+    private final LongAdder[] totals = newRow();
+    private final LongAdder[] unassigned = newRow();
+    private final Map<Object, LongAdder[]> byAssignee = new ConcurrentHashMap<>();
+
+    private static LongAdder[] newRow() {
+        LongAdder[] row = new LongAdder[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            row[i] = new LongAdder();
+        }
+        return row;
+    }
+
+    // Slot 0 of each dimension holds tasks without a status or priority.
+    private static int indexOf(TaskStatus status, TaskPriority priority) {
+        int statusSlot = status == null ? 0 : status.ordinal() + 1;
+        int prioritySlot = priority == null ? 0 : priority.ordinal() + 1;
+        return statusSlot * PRIORITY_SLOTS + prioritySlot;
+    }
+
+    private static Object keyOf(User assignee) {
+        return assignee.getName() == null ? NO_NAME : assignee.getName();
+    }
+
+    private LongAdder[] rowOf(User assignee) {
+        if (assignee == null) return unassigned;
+        Object key = keyOf(assignee);
+        LongAdder[] row = byAssignee.get(key);
+        return row != null ? row : byAssignee.computeIfAbsent(key, name -> newRow());
+    }
+
+    // Tasks with this status and priority assigned to the user; a null user counts unassigned tasks.
+    public long count(TaskStatus status, TaskPriority priority, User assignee) {
+        LongAdder[] row = assignee == null ? unassigned : byAssignee.get(keyOf(assignee));
+        return row == null ? 0 : row[indexOf(status, priority)].sum();
+    }
+
+    // Tasks with this status and priority, whoever they are assigned to.
+    public long count(TaskStatus status, TaskPriority priority) {
+        return totals[indexOf(status, priority)].sum();
+    }
+
+    // Non-zero counts per assignee name, with nameless users under null; unassigned tasks are
+    // left out. Walks every assignee.
+    public Map<String, Long> countByAssignee(TaskStatus status, TaskPriority priority) {
+        int index = indexOf(status, priority);
+        Map<String, Long> counts = new HashMap<>();
+        byAssignee.forEach((key, row) -> {
+            long count = row[index].sum();
+            if (count != 0) counts.put(key == NO_NAME ? null : (String) key, count);
+        });
+        return counts;
+    }
+
+    // Called under the task's stripe lock, so updates for one task never interleave.
+    private void move(LongAdder[] fromRow, int from, LongAdder[] toRow, int to) {
+        if (fromRow == toRow && from == to) return;
+        fromRow[from].decrement();
+        toRow[to].increment();
+        if (from != to) {
+            totals[from].decrement();
+            totals[to].increment();
+        }
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        int index = indexOf(task.getTaskStatus(), task.getTaskPriority());
+        rowOf(task.getAssignee())[index].increment();
+        totals[index].increment();
+    }
+
+    @Override
+    public void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+        int index = indexOf(task.getTaskStatus(), task.getTaskPriority());
+        move(rowOf(oldAssignee), index, rowOf(newAssignee), index);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        LongAdder[] row = rowOf(task.getAssignee());
+        TaskPriority priority = task.getTaskPriority();
+        move(row, indexOf(oldStatus, priority), row, indexOf(newStatus, priority));
+    }
+
+    @Override
+    public void onPriorityChanged(Task task, TaskPriority oldPriority, TaskPriority newPriority) {
+        LongAdder[] row = rowOf(task.getAssignee());
+        TaskStatus status = task.getTaskStatus();
+        move(row, indexOf(status, oldPriority), row, indexOf(status, newPriority));
+    }
+}
@@ -0,0 +1,91 @@
+package org.eztask.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// A file mapped in fixed 64MB windows so it can grow past the 2GB limit of a single
+// MappedByteBuffer. Callers must never let one value straddle two windows.
+final class MappedRegion implements Closeable {
+    static final int CHUNK_SHIFT = 26;
+    static final long CHUNK_BYTES = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_BYTES - 1;
+
+    private final FileChannel channel;
+    private volatile MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+
+    MappedRegion(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        ensureCapacity(Math.max(channel.size(), 1));
+    }
+
+    synchronized void ensureCapacity(long bytes) throws IOException {
+        MappedByteBuffer[] current = chunks;
+        int needed = (int) ((bytes + CHUNK_BYTES - 1) >>> CHUNK_SHIFT);
+        if (needed <= current.length) return;
+        MappedByteBuffer[] grown = Arrays.copyOf(current, needed);
+        for (int i = current.length; i < needed; i++) {
+            grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i << CHUNK_SHIFT, CHUNK_BYTES);
+        }
+        chunks = grown;
+    }
+
+    private MappedByteBuffer chunk(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)];
+    }
+
+    static int offset(long position) {
+        return (int) (position & CHUNK_MASK);
+    }
+
+    long getLong(long position) {
+        return chunk(position).getLong(offset(position));
+    }
+
+    void putLong(long position, long value) {
+        chunk(position).putLong(offset(position), value);
+    }
+
+    int getInt(long position) {
+        return chunk(position).getInt(offset(position));
+    }
+
+    void putInt(long position, int value) {
+        chunk(position).putInt(offset(position), value);
+    }
+
+    byte getByte(long position) {
+        return chunk(position).get(offset(position));
+    }
+
+    void putByte(long position, byte value) {
+        chunk(position).put(offset(position), value);
+    }
+
+    byte[] getBytes(long position, int length) {
+        byte[] bytes = new byte[length];
+        chunk(position).get(offset(position), bytes);
+        return bytes;
+    }
+
+    void putBytes(long position, byte[] bytes) {
+        chunk(position).put(offset(position), bytes);
+    }
+
+    void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
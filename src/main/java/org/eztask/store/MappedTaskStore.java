@@ -0,0 +1,386 @@
+package org.eztask.store;
+
+import org.eztask.concurrent.StripedLock;
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.id.IdGenerator;
+import org.eztask.id.TimeOrderedIdGenerator;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Off-heap task storage for stores larger than the heap. tasks.dat holds one 64-byte record
+// per task in id order (slot 0 is the header), strings.dat is an append-only heap for
+// title/desc and comment chains, and users.dat is a small append-only user table that is
+// loaded on open. Task objects are only built when a caller asks for one.
+public class MappedTaskStore implements Closeable {
+    static final int RECORD_BYTES = 64;
+    private static final long MAGIC = 0x657a7461736b3031L;
+    private static final long NONE = Long.MIN_VALUE;
+    private static final int LOCK_STRIPES = 64;
+
+    // Header slot
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_COUNT = 8;
+    private static final int HEADER_HEAP_END = 16;
+
+    // Record layout
+    private static final int ID = 0;
+    private static final int CREATED_AT = 8;
+    private static final int UPDATED_AT = 16;
+    private static final int CREATER = 24;
+    private static final int ASSIGNEE = 32;
+    private static final int TEXT = 40;
+    private static final int LAST_COMMENT = 48;
+    private static final int STATUS = 56;
+    private static final int PRIORITY = 57;
+
+    private final MappedRegion records;
+    private final MappedRegion strings;
+    private final FileChannel userTable;
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final StripedLock recordLocks = new StripedLock(LOCK_STRIPES);
+    private final IdGenerator idGenerator;
+    private volatile long count;
+    private long heapEnd;
+
+    private MappedTaskStore(Path directory, IdGenerator idGenerator) throws IOException {
+        Files.createDirectories(directory);
+        this.idGenerator = idGenerator;
+        this.records = new MappedRegion(directory.resolve("tasks.dat"));
+        this.strings = new MappedRegion(directory.resolve("strings.dat"));
+        this.userTable = FileChannel.open(directory.resolve("users.dat"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (records.getLong(HEADER_MAGIC) == MAGIC) {
+            count = records.getLong(HEADER_COUNT);
+            heapEnd = records.getLong(HEADER_HEAP_END);
+        } else {
+            records.putLong(HEADER_MAGIC, MAGIC);
+            count = 0;
+            heapEnd = 0;
+        }
+        loadUsers();
+    }
+
+    public static MappedTaskStore open(Path directory) throws IOException {
+        return new MappedTaskStore(directory, new TimeOrderedIdGenerator());
+    }
+
+    public static MappedTaskStore open(Path directory, IdGenerator idGenerator) throws IOException {
+        return new MappedTaskStore(directory, idGenerator);
+    }
+
+    private void loadUsers() throws IOException {
+        userTable.position(0);
+        DataInputStream in = new DataInputStream(Channels.newInputStream(userTable));
+        long valid = 0;
+        while (true) {
+            try {
+                long id = in.readLong();
+                String name = in.readBoolean() ? in.readUTF() : null;
+                users.put(id, new User(id, name));
+                valid = userTable.position();
+            } catch (EOFException e) {
+                break;
+            }
+        }
+        userTable.truncate(valid);
+        userTable.position(valid);
+    }
+
+    private long userId(User user) {
+        if (user == null) return NONE;
+        if (users.putIfAbsent(user.getId(), user) == null) {
+            try {
+                DataOutputStream out = new DataOutputStream(Channels.newOutputStream(userTable));
+                synchronized (userTable) {
+                    out.writeLong(user.getId());
+                    out.writeBoolean(user.getName() != null);
+                    if (user.getName() != null) out.writeUTF(user.getName());
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return user.getId();
+    }
+
+    private static long position(long index) {
+        return (index + 1) * RECORD_BYTES;
+    }
+
+    private static long nanos(LocalDateTime time) {
+        if (time == null) return NONE;
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime time(long nanos) {
+        if (nanos == NONE) return null;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    // Heap entries never straddle a mapped window. Caller holds appendLock.
+    private long allocate(int bytes) throws IOException {
+        if (bytes > MappedRegion.CHUNK_BYTES) {
+            throw new IllegalArgumentException("Entry of " + bytes + " bytes does not fit a mapped window");
+        }
+        long start = heapEnd;
+        if (MappedRegion.offset(start) + (long) bytes > MappedRegion.CHUNK_BYTES) {
+            start = (start | (MappedRegion.CHUNK_BYTES - 1)) + 1;
+        }
+        strings.ensureCapacity(start + bytes);
+        heapEnd = start + bytes;
+        records.putLong(HEADER_HEAP_END, heapEnd);
+        return start;
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int sizeOf(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    private long putString(long position, byte[] bytes) {
+        strings.putInt(position, bytes == null ? -1 : bytes.length);
+        if (bytes != null) strings.putBytes(position + Integer.BYTES, bytes);
+        return position + sizeOf(bytes);
+    }
+
+    private String getString(long position) {
+        int length = strings.getInt(position);
+        return length < 0 ? null : new String(strings.getBytes(position + Integer.BYTES, length), StandardCharsets.UTF_8);
+    }
+
+    public Task createTask(String title, String desc, User creater) {
+        byte[] titleBytes = utf8(title);
+        byte[] descBytes = utf8(desc);
+        long createrId = userId(creater);
+        appendLock.lock();
+        try {
+            long index = count;
+            long record = position(index);
+            records.ensureCapacity(record + RECORD_BYTES);
+            long text = allocate(sizeOf(titleBytes) + sizeOf(descBytes));
+            putString(putString(text, titleBytes), descBytes);
+            // Ids are issued under the append lock so records stay sorted by id.
+            long id = idGenerator.nextId();
+            if (index > 0) id = Math.max(id, records.getLong(position(index - 1) + ID) + 1);
+            LocalDateTime createdAt = LocalDateTime.now();
+            records.putLong(record + ID, id);
+            records.putLong(record + CREATED_AT, nanos(createdAt));
+            records.putLong(record + UPDATED_AT, NONE);
+            records.putLong(record + CREATER, createrId);
+            records.putLong(record + ASSIGNEE, NONE);
+            records.putLong(record + TEXT, text);
+            records.putLong(record + LAST_COMMENT, NONE);
+            records.putByte(record + STATUS, (byte) -1);
+            records.putByte(record + PRIORITY, (byte) -1);
+            records.putLong(HEADER_COUNT, index + 1);
+            count = index + 1;
+            return new Task(id, title, desc, creater, createdAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public long size() {
+        return count;
+    }
+
+    // Records are in id order, so lookup is a binary search over the mapped id column.
+    public long indexOf(long id) {
+        long lo = 0;
+        long hi = count - 1;
+        while (lo <= hi) {
+            long mid = (lo + hi) >>> 1;
+            long midId = records.getLong(position(mid) + ID);
+            if (midId < id) {
+                lo = mid + 1;
+            } else if (midId > id) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private long requireRecord(long id) {
+        long index = indexOf(id);
+        if (index < 0) {
+            throw new NoSuchElementException("No task with id " + id);
+        }
+        return position(index);
+    }
+
+    public Task getTask(long id) {
+        long index = indexOf(id);
+        return index < 0 ? null : getAt(index);
+    }
+
+    public Task getAt(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + count);
+        }
+        long record = position(index);
+        long text = records.getLong(record + TEXT);
+        String title = getString(text);
+        String desc = getString(text + Integer.BYTES + Math.max(strings.getInt(text), 0));
+        Task task = new Task(records.getLong(record + ID), title, desc, users.get(records.getLong(record + CREATER)),
+                time(records.getLong(record + CREATED_AT)));
+        task.setUpdatedAt(time(records.getLong(record + UPDATED_AT)));
+        long assignee = records.getLong(record + ASSIGNEE);
+        task.setAssignee(assignee == NONE ? null : users.get(assignee));
+        task.setTaskStatus(getTaskStatus(index));
+        task.setTaskPriority(getTaskPriority(index));
+        List<Comment> comments = new ArrayList<>();
+        for (long entry = records.getLong(record + LAST_COMMENT); entry != NONE; entry = strings.getLong(entry)) {
+            comments.add(new Comment(getString(entry + 16), time(strings.getLong(entry + 8))));
+        }
+        for (int i = comments.size() - 1; i >= 0; i--) {
+            task.addComment(comments.get(i));
+        }
+        return task;
+    }
+
+    public TaskStatus getTaskStatus(long index) {
+        byte ordinal = records.getByte(position(index) + STATUS);
+        return ordinal < 0 ? null : TaskStatus.values()[ordinal];
+    }
+
+    public TaskPriority getTaskPriority(long index) {
+        byte ordinal = records.getByte(position(index) + PRIORITY);
+        return ordinal < 0 ? null : TaskPriority.values()[ordinal];
+    }
+
+    public void assignTaskToUser(long id, User user) {
+        long assignee = userId(user);
+        update(id, record -> records.putLong(record + ASSIGNEE, assignee));
+    }
+
+    public void updateTaskStatus(long id, TaskStatus status) {
+        byte ordinal = (byte) (status == null ? -1 : status.ordinal());
+        update(id, record -> records.putByte(record + STATUS, ordinal));
+    }
+
+    public void updateTaskPriority(long id, TaskPriority priority) {
+        byte ordinal = (byte) (priority == null ? -1 : priority.ordinal());
+        update(id, record -> records.putByte(record + PRIORITY, ordinal));
+    }
+
+    private interface RecordUpdate {
+        void apply(long record);
+    }
+
+    private void update(long id, RecordUpdate update) {
+        long record = requireRecord(id);
+        Lock lock = recordLocks.get(id);
+        lock.lock();
+        try {
+            records.putLong(record + UPDATED_AT, nanos(LocalDateTime.now()));
+            update.apply(record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Comments form a newest-first chain in the string heap: [long previous][long time][string].
+    public void addComment(long id, Comment comment) {
+        long record = requireRecord(id);
+        byte[] text = utf8(comment.getText());
+        Lock lock = recordLocks.get(id);
+        lock.lock();
+        try {
+            long entry;
+            appendLock.lock();
+            try {
+                entry = allocate(16 + sizeOf(text));
+            } finally {
+                appendLock.unlock();
+            }
+            strings.putLong(entry, records.getLong(record + LAST_COMMENT));
+            strings.putLong(entry + 8, nanos(comment.getCreationTime()));
+            putString(entry + 16, text);
+            records.putLong(record + UPDATED_AT, nanos(comment.getCreationTime()));
+            records.putLong(record + LAST_COMMENT, entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Lazily materializing view over the records present when it was taken.
+    public List<Task> snapshot() {
+        long size = count;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Store has too many tasks for a List view: " + size);
+        }
+        return new SnapshotView((int) size);
+    }
+
+    private class SnapshotView extends AbstractList<Task> implements RandomAccess {
+        private final int size;
+
+        SnapshotView(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Task get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return getAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    public void force() throws IOException {
+        records.force();
+        strings.force();
+        userTable.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+        strings.close();
+        userTable.close();
+    }
+}
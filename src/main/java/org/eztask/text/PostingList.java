@@ -0,0 +1,178 @@
+package org.eztask.text;
+
+import java.util.Arrays;
+
+// Rows containing one term, in ascending order, as varint (row delta, term frequency) pairs.
+// Every SKIP_INTERVAL postings a skip entry records the row and byte offset reached so far, so
+// a cursor can jump over whole blocks while intersecting. Postings for rows at or below the
+// last encoded row (comments on older tasks) wait in a pending buffer until the next read.
+final class PostingList {
+    static final int NO_MORE = Integer.MAX_VALUE;
+    private static final int SKIP_INTERVAL = 64;
+
+    private byte[] bytes = new byte[16];
+    private int length;
+    private int count;
+    private int lastRow = -1;
+    private int[] skipRows = new int[0];
+    private int[] skipOffsets = new int[0];
+    private int skips;
+    private long[] pending = new long[0];
+    private int pendingCount;
+
+    synchronized void add(int row, int frequency) {
+        addUnlocked(row, frequency);
+    }
+
+    // Postings packed as row << 32 | frequency, added under one lock.
+    synchronized void addAll(long[] postings, int count) {
+        for (int i = 0; i < count; i++) {
+            addUnlocked((int) (postings[i] >>> 32), (int) postings[i]);
+        }
+    }
+
+    private void addUnlocked(int row, int frequency) {
+        if (row > lastRow) {
+            append(row, frequency);
+            return;
+        }
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(4, pendingCount * 2));
+        }
+        pending[pendingCount++] = (long) row << 32 | frequency;
+    }
+
+    // Upper bound while pending postings for already-listed rows are not merged yet.
+    synchronized int documentFrequency() {
+        return count + pendingCount;
+    }
+
+    synchronized Cursor cursor() {
+        if (pendingCount > 0) {
+            mergePending();
+        }
+        return new Cursor(bytes, count, skipRows, skipOffsets, skips);
+    }
+
+    private void append(int row, int frequency) {
+        if (length + 10 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        length = writeVarint(bytes, length, row - lastRow);
+        length = writeVarint(bytes, length, frequency);
+        lastRow = row;
+        if (++count % SKIP_INTERVAL == 0) {
+            if (skips == skipRows.length) {
+                skipRows = Arrays.copyOf(skipRows, Math.max(4, skips * 2));
+                skipOffsets = Arrays.copyOf(skipOffsets, Math.max(4, skips * 2));
+            }
+            skipRows[skips] = row;
+            skipOffsets[skips++] = length;
+        }
+    }
+
+    private void mergePending() {
+        long[] added = Arrays.copyOf(pending, pendingCount);
+        Arrays.sort(added);
+        Cursor existing = new Cursor(bytes, count, skipRows, skipOffsets, skips);
+        existing.next();
+        bytes = new byte[Math.max(16, length + pendingCount * 10)];
+        length = 0;
+        count = 0;
+        lastRow = -1;
+        skipRows = new int[0];
+        skipOffsets = new int[0];
+        skips = 0;
+        int i = 0;
+        while (existing.row != NO_MORE || i < added.length) {
+            int addedRow = i < added.length ? (int) (added[i] >>> 32) : NO_MORE;
+            int row = Math.min(existing.row, addedRow);
+            int frequency = 0;
+            if (existing.row == row) {
+                frequency += existing.frequency;
+                existing.next();
+            }
+            while (i < added.length && (int) (added[i] >>> 32) == row) {
+                frequency += (int) added[i++];
+            }
+            append(row, frequency);
+        }
+        pending = new long[0];
+        pendingCount = 0;
+    }
+
+    private static int writeVarint(byte[] out, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[offset++] = (byte) value;
+        return offset;
+    }
+
+    // Reads a frozen prefix of the list; later appends land past it and are never seen.
+    static final class Cursor {
+        private final byte[] bytes;
+        private final int count;
+        private final int[] skipRows;
+        private final int[] skipOffsets;
+        private final int skips;
+        private int offset;
+        private int index;
+        private int nextSkip;
+        int row = -1;
+        int frequency;
+
+        private Cursor(byte[] bytes, int count, int[] skipRows, int[] skipOffsets, int skips) {
+            this.bytes = bytes;
+            this.count = count;
+            this.skipRows = skipRows;
+            this.skipOffsets = skipOffsets;
+            this.skips = skips;
+        }
+
+        int size() {
+            return count;
+        }
+
+        boolean next() {
+            if (index >= count) {
+                row = NO_MORE;
+                return false;
+            }
+            row += readVarint();
+            frequency = readVarint();
+            index++;
+            return true;
+        }
+
+        // Moves to the first row >= target.
+        boolean advance(int target) {
+            if (row >= target) return row != NO_MORE;
+            while (nextSkip < skips && skipRows[nextSkip] < target) {
+                if ((nextSkip + 1) * SKIP_INTERVAL > index) {
+                    row = skipRows[nextSkip];
+                    offset = skipOffsets[nextSkip];
+                    index = (nextSkip + 1) * SKIP_INTERVAL;
+                }
+                nextSkip++;
+            }
+            while (row < target) {
+                if (!next()) return false;
+            }
+            return true;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
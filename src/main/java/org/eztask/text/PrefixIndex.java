@@ -0,0 +1,265 @@
+package org.eztask.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Case-insensitive radix tree: chains of single-child nodes collapse into one edge label, so
+// memory grows with the keys rather than with the number of their prefixes. Every value carries
+// a score, and every node the best score below it, so the top N under a prefix come out of a
+// best-first walk without visiting the rest of the subtree. Scores may only grow.
+//
+// Keys are sharded by their first character, each shard a tree with its own lock, so writers of
+// unrelated keys do not queue behind one another.
+public class PrefixIndex<V> {
+    private static final int SHARDS = 64;
+
+    private final Shard<V>[] shards = newShards();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private static final class Shard<V> {
+        final Node<V> root = new Node<>("");
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        long sequence;
+    }
+
+    private static final class Node<V> {
+        String label;
+        Node<V>[] children = newNodes(0);
+        // Values by identity for re-inserts, and the same entries ranked best first for lookups.
+        Map<V, Scored<V>> values;
+        NavigableSet<Scored<V>> ranked;
+        long best = Long.MIN_VALUE;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        int childIndex(char c) {
+            int lo = 0;
+            int hi = children.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char first = children[mid].label.charAt(0);
+                if (first < c) {
+                    lo = mid + 1;
+                } else if (first > c) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(lo + 1);
+        }
+
+        void insertChild(int at, Node<V> child) {
+            Node<V>[] grown = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(grown, at, grown, at + 1, children.length - at);
+            grown[at] = child;
+            children = grown;
+        }
+
+        // Returns true if the value was new at this node.
+        boolean putValue(V value, long score, long sequence) {
+            if (values == null) {
+                values = new HashMap<>();
+                ranked = new TreeSet<>(Scored.BEST_FIRST);
+            }
+            Scored<V> current = values.get(value);
+            if (current == null) {
+                Scored<V> added = new Scored<>(value, score, sequence);
+                values.put(value, added);
+                ranked.add(added);
+                return true;
+            }
+            if (score > current.score()) {
+                Scored<V> raised = new Scored<>(value, score, current.sequence());
+                ranked.remove(current);
+                ranked.add(raised);
+                values.put(value, raised);
+            }
+            return false;
+        }
+    }
+
+    // The sequence breaks score ties by insertion order, so the ranked set never drops an entry.
+    private record Scored<V>(V value, long score, long sequence) {
+        static final Comparator<Scored<?>> BEST_FIRST = Comparator.<Scored<?>>comparingLong(Scored::score).reversed()
+                .thenComparingLong(Scored::sequence);
+    }
+
+    // Either a node still to expand, or the best remaining value of a node with the rest behind it.
+    private record Candidate<V>(long score, Node<V> node, Scored<V> value, Iterator<Scored<V>> rest) {
+        static final Comparator<Candidate<?>> BEST_FIRST = Comparator.<Candidate<?>>comparingLong(Candidate::score)
+                .reversed();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] newNodes(int length) {
+        return (Node<V>[]) new Node<?>[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Shard<V>[] newShards() {
+        Shard<V>[] shards = (Shard<V>[]) new Shard<?>[SHARDS];
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new Shard<>();
+        }
+        return shards;
+    }
+
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    private Shard<V> shardOf(String normalized) {
+        return shards[normalized.isEmpty() ? 0 : normalized.charAt(0) & (SHARDS - 1)];
+    }
+
+    // Adds the value under the key, or raises its score if it is already there.
+    public void put(String key, V value, long score) {
+        if (key == null || value == null) return;
+        String normalized = normalize(key);
+        Shard<V> shard = shardOf(normalized);
+        shard.lock.writeLock().lock();
+        try {
+            if (insert(shard.root, normalized, value, score, shard.sequence++)) size.incrementAndGet();
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    private boolean insert(Node<V> root, String normalized, V value, long score, long sequence) {
+        Node<V> node = root;
+        int i = 0;
+        while (true) {
+            node.best = Math.max(node.best, score);
+            if (i == normalized.length()) {
+                return node.putValue(value, score, sequence);
+            }
+            int at = node.childIndex(normalized.charAt(i));
+            if (at < 0) {
+                Node<V> leaf = new Node<>(normalized.substring(i));
+                leaf.best = score;
+                leaf.putValue(value, score, sequence);
+                node.insertChild(-at - 1, leaf);
+                return true;
+            }
+            Node<V> child = node.children[at];
+            int common = commonPrefix(child.label, normalized, i);
+            if (common < child.label.length()) {
+                Node<V> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children = newNodes(1);
+                split.children[0] = child;
+                split.best = child.best;
+                node.children[at] = split;
+                child = split;
+            }
+            node = child;
+            i += common;
+        }
+    }
+
+    // Up to limit values whose key starts with the prefix, highest score first.
+    public List<V> topMatches(String prefix, int limit) {
+        List<V> result = new ArrayList<>();
+        if (prefix == null || limit <= 0) return result;
+        String normalized = normalize(prefix);
+        if (!normalized.isEmpty()) {
+            Shard<V> shard = shardOf(normalized);
+            shard.lock.readLock().lock();
+            try {
+                for (Scored<V> match : bestUnder(find(shard.root, normalized), limit)) {
+                    result.add(match.value());
+                }
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+            return result;
+        }
+        List<Scored<V>> merged = new ArrayList<>();
+        for (Shard<V> shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                merged.addAll(bestUnder(shard.root, limit));
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        merged.sort(Comparator.comparingLong(Scored<V>::score).reversed());
+        for (int i = 0; i < Math.min(limit, merged.size()); i++) {
+            result.add(merged.get(i).value());
+        }
+        return result;
+    }
+
+    // Best-first walk that holds at most one pending value per node visited.
+    private List<Scored<V>> bestUnder(Node<V> node, int limit) {
+        List<Scored<V>> result = new ArrayList<>();
+        if (node == null) return result;
+        PriorityQueue<Candidate<V>> queue = new PriorityQueue<>(Candidate.BEST_FIRST);
+        queue.add(new Candidate<>(node.best, node, null, null));
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate<V> next = queue.poll();
+            if (next.node() == null) {
+                result.add(next.value());
+                enqueueNext(queue, next.rest());
+                continue;
+            }
+            Node<V> expanded = next.node();
+            if (expanded.ranked != null) {
+                enqueueNext(queue, expanded.ranked.iterator());
+            }
+            for (Node<V> child : expanded.children) {
+                queue.add(new Candidate<>(child.best, child, null, null));
+            }
+        }
+        return result;
+    }
+
+    private static <V> void enqueueNext(PriorityQueue<Candidate<V>> queue, Iterator<Scored<V>> rest) {
+        if (!rest.hasNext()) return;
+        Scored<V> value = rest.next();
+        queue.add(new Candidate<>(value.score(), null, value, rest));
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    // The node whose subtree holds exactly the keys starting with the prefix.
+    private Node<V> find(Node<V> root, String prefix) {
+        Node<V> node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int at = node.childIndex(prefix.charAt(i));
+            if (at < 0) return null;
+            Node<V> child = node.children[at];
+            int common = commonPrefix(child.label, prefix, i);
+            if (i + common == prefix.length()) return child;
+            if (common < child.label.length()) return null;
+            node = child;
+            i += common;
+        }
+        return node;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int n = 0;
+        while (n < max && label.charAt(n) == key.charAt(offset + n)) n++;
+        return n;
+    }
+}
@@ -0,0 +1,49 @@
+package org.eztask.text;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.entity.User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Typeahead over task titles and user names. Titles rank newest first; users rank by how many
+// times they have been named creater or assignee, so the people seen most come up first.
+public class TaskAutocompleteIndex implements TaskChangeListener {
+    private final PrefixIndex<Task> titles = new PrefixIndex<>();
+    private final PrefixIndex<User> users = new PrefixIndex<>();
+    private final Map<String, UserReferences> userReferences = new ConcurrentHashMap<>();
+
+    // The first User seen with a name stands for every User with that name.
+    private record UserReferences(User user, AtomicLong count) {
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        titles.put(task.getTitle(), task, task.getRowId());
+        reference(task.getCreater());
+        reference(task.getAssignee());
+    }
+
+    @Override
+    public void onAssigneeChanged(Task task, User oldAssignee, User newAssignee) {
+        reference(newAssignee);
+    }
+
+    public List<Task> completeTitle(String prefix, int limit) {
+        return titles.topMatches(prefix, limit);
+    }
+
+    public List<User> completeUserName(String prefix, int limit) {
+        return users.topMatches(prefix, limit);
+    }
+
+    private void reference(User user) {
+        if (user == null || user.getName() == null) return;
+        UserReferences references = userReferences.computeIfAbsent(user.getName(),
+                name -> new UserReferences(user, new AtomicLong()));
+        users.put(user.getName(), references.user(), references.count().incrementAndGet());
+    }
+}
@@ -0,0 +1,263 @@
+package org.eztask.text;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.index.TaskIndex;
+import org.eztask.search.TaskSearchType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+// Inverted index over title, description and comment text, keyed by Task.getRowId().
+// Multi-term queries match tasks containing every term and are ranked by BM25.
+public class TaskTextIndex implements TaskIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    private static final int SLICE_TASKS = 2048;
+
+    private final IntFunction<Task> rows;
+    private final Map<String, PostingList> postings = new ConcurrentHashMap<>();
+    private final AtomicInteger documents = new AtomicInteger();
+    private final LongAdder totalLength = new LongAdder();
+    private volatile int[][] lengths = new int[16][];
+
+    public TaskTextIndex(IntFunction<Task> rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public TaskSearchType getSearchType() {
+        return TaskSearchType.TEXT;
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+        int row = task.getRowId();
+        if (row < 0) return;
+        documents.incrementAndGet();
+        index(row, task.getTitle());
+        index(row, task.getDesc());
+        for (Comment comment : task.getComments()) {
+            index(row, comment.getText());
+        }
+    }
+
+    // Tokenizing runs on parallel slices of the run; the per-slice postings are then merged
+    // term by term in slice order, so each list is locked once per slice rather than per task.
+    @Override
+    public void onTasksAdded(List<Task> tasks) {
+        int slices = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), tasks.size() / SLICE_TASKS));
+        List<Slice> tokenized = IntStream.range(0, slices).parallel()
+                .mapToObj(slice -> tokenize(tasks, tasks.size() * slice / slices, tasks.size() * (slice + 1) / slices))
+                .toList();
+        for (Slice slice : tokenized) {
+            for (Map.Entry<String, TermRun> entry : slice.runs.entrySet()) {
+                TermRun run = entry.getValue();
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).addAll(run.postings, run.size);
+            }
+            documents.addAndGet(slice.documents);
+            totalLength.add(slice.length);
+        }
+    }
+
+    private Slice tokenize(List<Task> tasks, int from, int to) {
+        Slice slice = new Slice();
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            Task task = tasks.get(i);
+            int row = task.getRowId();
+            if (row < 0) continue;
+            slice.documents++;
+            frequencies.clear();
+            int length = count(frequencies, task.getTitle()) + count(frequencies, task.getDesc());
+            for (Comment comment : task.getComments()) {
+                length += count(frequencies, comment.getText());
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                slice.runs.computeIfAbsent(entry.getKey(), term -> new TermRun()).add(row, entry.getValue());
+            }
+            if (length > 0) {
+                lengthChunk(row)[row & CHUNK_MASK] += length;
+                slice.length += length;
+            }
+        }
+        return slice;
+    }
+
+    private static final class Slice {
+        final Map<String, TermRun> runs = new HashMap<>();
+        int documents;
+        long length;
+    }
+
+    private static int count(Map<String, Integer> frequencies, String text) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return tokens.size();
+    }
+
+    private static final class TermRun {
+        long[] postings = new long[4];
+        int size;
+
+        void add(int row, int frequency) {
+            if (size == postings.length) {
+                postings = Arrays.copyOf(postings, size * 2);
+            }
+            postings[size++] = (long) row << 32 | frequency;
+        }
+    }
+
+    @Override
+    public void onCommentAdded(Task task, Comment comment) {
+        if (task.getRowId() >= 0) index(task.getRowId(), comment.getText());
+    }
+
+    // Every match, best first.
+    @Override
+    public Collection<Task> lookup(Object criteria) {
+        return criteria instanceof String query ? search(query, Integer.MAX_VALUE) : List.of();
+    }
+
+    // Text is only ever added to a task, so a task that matched still matches.
+    @Override
+    public boolean isExact() {
+        return true;
+    }
+
+    @Override
+    public boolean isRanked() {
+        return true;
+    }
+
+    // A match needs every term, so the rarest term's posting list bounds the result.
+    @Override
+    public long estimate(Object criteria) {
+        if (!(criteria instanceof String query)) return 0;
+        List<String> terms = Tokenizer.tokenize(query);
+        if (terms.isEmpty()) return 0;
+        long bound = Long.MAX_VALUE;
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) return 0;
+            bound = Math.min(bound, list.documentFrequency());
+        }
+        return bound;
+    }
+
+    public List<Task> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) return List.of();
+        PostingList.Cursor[] cursors = new PostingList.Cursor[terms.size()];
+        for (int i = 0; i < cursors.length; i++) {
+            PostingList list = postings.get(terms.get(i));
+            if (list == null) return List.of();
+            cursors[i] = list.cursor();
+        }
+        // Rarest term leads; the others leapfrog to its rows through their skip entries.
+        Arrays.sort(cursors, Comparator.comparingInt(PostingList.Cursor::size));
+        double[] idf = new double[cursors.length];
+        int n = documents.get();
+        for (int i = 0; i < cursors.length; i++) {
+            int df = cursors[i].size();
+            idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        }
+        double averageLength = Math.max(1.0, totalLength.doubleValue() / Math.max(1, n));
+
+        PriorityQueue<ScoredRow> top = new PriorityQueue<>(ScoredRow.WORST_FIRST);
+        PostingList.Cursor lead = cursors[0];
+        if (!lead.next()) return List.of();
+        int target = lead.row;
+        candidates:
+        while (true) {
+            for (int i = 1; i < cursors.length; i++) {
+                if (!cursors[i].advance(target)) break candidates;
+                if (cursors[i].row > target) {
+                    if (!lead.advance(cursors[i].row)) break candidates;
+                    target = lead.row;
+                    continue candidates;
+                }
+            }
+            double norm = K1 * (1 - B + B * lengthOf(target) / averageLength);
+            double score = 0;
+            for (int i = 0; i < cursors.length; i++) {
+                int tf = cursors[i].frequency;
+                score += idf[i] * tf * (K1 + 1) / (tf + norm);
+            }
+            top.offer(new ScoredRow(target, score));
+            if (top.size() > limit) top.poll();
+            if (!lead.next()) break;
+            target = lead.row;
+        }
+
+        ScoredRow[] ranked = top.toArray(new ScoredRow[0]);
+        Arrays.sort(ranked, ScoredRow.WORST_FIRST.reversed());
+        List<Task> result = new ArrayList<>(ranked.length);
+        for (ScoredRow scored : ranked) {
+            result.add(rows.apply(scored.row));
+        }
+        return result;
+    }
+
+    private void index(int row, String text) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        if (tokens.isEmpty()) return;
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(row, entry.getValue());
+        }
+        int[] chunk = lengthChunk(row);
+        chunk[row & CHUNK_MASK] += tokens.size();
+        totalLength.add(tokens.size());
+    }
+
+    private int lengthOf(int row) {
+        int[][] dir = lengths;
+        int chunk = row >>> CHUNK_SHIFT;
+        return chunk < dir.length && dir[chunk] != null ? dir[chunk][row & CHUNK_MASK] : 0;
+    }
+
+    private int[] lengthChunk(int row) {
+        int chunk = row >>> CHUNK_SHIFT;
+        int[][] dir = lengths;
+        if (chunk < dir.length && dir[chunk] != null) {
+            return dir[chunk];
+        }
+        synchronized (this) {
+            dir = lengths;
+            if (chunk >= dir.length) {
+                dir = Arrays.copyOf(dir, Math.max(dir.length * 2, chunk + 1));
+            }
+            if (dir[chunk] == null) {
+                dir[chunk] = new int[1 << CHUNK_SHIFT];
+            }
+            lengths = dir;
+            return dir[chunk];
+        }
+    }
+
+    // Ties go to the older task.
+    private record ScoredRow(int row, double score) {
+        static final Comparator<ScoredRow> WORST_FIRST =
+                Comparator.comparingDouble(ScoredRow::score).thenComparing(ScoredRow::row, Comparator.reverseOrder());
+    }
+}
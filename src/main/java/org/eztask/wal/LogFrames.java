@@ -0,0 +1,67 @@
+package org.eztask.wal;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Shared framing for log segments and snapshots: [int length][int crc32c][long lsn][payload],
+// with the checksum covering the lsn and the payload.
+final class LogFrames {
+    static final int HEADER_BYTES = 16;
+
+    private LogFrames() {
+    }
+
+    // Makes a file created or renamed in the directory survive a crash; the file's own force()
+    // only covers its contents.
+    static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    static int checksum(long lsn, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer lsnBytes = ByteBuffer.allocate(Long.BYTES).putLong(0, lsn);
+        crc.update(lsnBytes);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    static void put(ByteBuffer out, long lsn, byte[] payload) {
+        out.putInt(payload.length).putInt(checksum(lsn, payload)).putLong(lsn).put(payload);
+    }
+
+    // Returns the length of the intact prefix; reading stops at the first torn or corrupt frame.
+    static long read(FileChannel channel, LogRecordHandler handler) throws IOException {
+        long size = channel.size();
+        long valid = 0;
+        channel.position(0);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        while (true) {
+            byte[] payload;
+            long lsn;
+            try {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                lsn = in.readLong();
+                if (length < 0 || length > size - valid - HEADER_BYTES) break;
+                payload = new byte[length];
+                in.readFully(payload);
+                if (checksum(lsn, payload) != checksum) break;
+            } catch (EOFException e) {
+                break;
+            }
+            handler.accept(lsn, ByteBuffer.wrap(payload).asReadOnlyBuffer());
+            valid += HEADER_BYTES + payload.length;
+        }
+        return valid;
+    }
+}
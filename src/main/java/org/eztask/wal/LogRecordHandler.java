@@ -0,0 +1,7 @@
+package org.eztask.wal;
+
+import java.nio.ByteBuffer;
+
+public interface LogRecordHandler {
+    void accept(long lsn, ByteBuffer payload);
+}
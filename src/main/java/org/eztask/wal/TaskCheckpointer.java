@@ -0,0 +1,164 @@
+package org.eztask.wal;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// A checkpoint first seals the active log segment at lsn B, then writes every task without
+// taking task locks. Mutations racing with the copy may or may not be in the snapshot, but
+// they all have lsn > B and are replayed on restart, and replay is idempotent. Once the
+// snapshot is renamed into place, segments holding only lsn <= B are deleted.
+public class TaskCheckpointer implements Closeable {
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final TaskManager taskManager;
+    private final WriteAheadLog log;
+    private ScheduledExecutorService scheduler;
+    private volatile IOException lastFailure;
+
+    public TaskCheckpointer(TaskManager taskManager, WriteAheadLog log) {
+        this.taskManager = taskManager;
+        this.log = log;
+    }
+
+    private static Path snapshotPath(Path directory, long lsn) {
+        return directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, lsn, SNAPSHOT_SUFFIX));
+    }
+
+    private static long lsnOf(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+
+    private static List<Path> snapshots(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) return List.of();
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> snapshots = new ArrayList<>(files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+            }).toList());
+            snapshots.sort(Comparator.comparingLong(TaskCheckpointer::lsnOf));
+            return snapshots;
+        }
+    }
+
+    // Loads the newest snapshot into the replayer's TaskManager and returns the lsn it covers,
+    // or 0 when the directory holds no snapshot.
+    public static long loadLatest(Path directory, TaskLogReplayer replayer) throws IOException {
+        List<Path> snapshots = snapshots(directory);
+        if (snapshots.isEmpty()) return 0;
+        Path latest = snapshots.get(snapshots.size() - 1);
+        try (FileChannel in = FileChannel.open(latest, StandardOpenOption.READ)) {
+            long valid = LogFrames.read(in, replayer);
+            if (valid != in.size() || replayer.getSnapshotTasks() < 0) {
+                throw new IOException("Incomplete snapshot " + latest);
+            }
+        }
+        return lsnOf(latest);
+    }
+
+    public synchronized long checkpoint() throws IOException {
+        long boundary = log.rollSegment();
+        List<Task> tasks = taskManager.snapshot();
+        Path directory = log.getDirectory();
+        Path target = snapshotPath(directory, boundary);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+            for (Task task : tasks) {
+                buffer = put(out, buffer, boundary, TaskLogCodec.encodeCreate(task));
+            }
+            // Read after the copy, so it covers every change the snapshot may hold; replay then
+            // counts the tail on top, at worst skipping a few numbers.
+            long events = taskManager.getChangePublisher().nextSequence();
+            buffer = put(out, buffer, boundary, TaskLogCodec.encodeSnapshotEnd(tasks.size(), events));
+            drain(out, buffer);
+            out.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        LogFrames.forceDirectory(directory);
+        log.deleteSegmentsThrough(boundary);
+        for (Path snapshot : snapshots(directory)) {
+            if (lsnOf(snapshot) < boundary) Files.deleteIfExists(snapshot);
+        }
+        return boundary;
+    }
+
+    private static ByteBuffer put(FileChannel out, ByteBuffer buffer, long lsn, byte[] payload) throws IOException {
+        int needed = LogFrames.HEADER_BYTES + payload.length;
+        if (buffer.remaining() < needed) {
+            drain(out, buffer);
+            if (buffer.capacity() < needed) buffer = ByteBuffer.allocate(needed);
+        }
+        LogFrames.put(buffer, lsn, payload);
+        return buffer;
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public synchronized void schedule(Duration interval) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Checkpoints already scheduled");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-checkpointer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint();
+                lastFailure = null;
+            } catch (IOException e) {
+                lastFailure = e;
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    public IOException getLastFailure() {
+        return lastFailure;
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = scheduler;
+            scheduler = null;
+        }
+        if (running != null) {
+            running.shutdown();
+            try {
+                running.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
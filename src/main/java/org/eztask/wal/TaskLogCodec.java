@@ -0,0 +1,181 @@
+package org.eztask.wal;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+public final class TaskLogCodec {
+    static final byte CREATE = 1;
+    static final byte COMMENT = 2;
+    static final byte ASSIGN = 3;
+    static final byte STATUS = 4;
+    static final byte PRIORITY = 5;
+    static final byte SNAPSHOT_END = 6;
+    static final byte BATCH = 7;
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final long NO_USER = Long.MIN_VALUE;
+
+    private TaskLogCodec() {
+    }
+
+    public static byte[] encodeCreate(Task task) {
+        return encode(CREATE, out -> {
+            // Read before the fields: mutations bump it after changing them, so the fields are at
+            // least this new and the records above it bring any that are newer back in line.
+            int version = task.getVersion();
+            out.writeLong(task.getId());
+            out.writeInt(version);
+            writeString(out, task.getTitle());
+            writeString(out, task.getDesc());
+            writeUser(out, task.getCreater());
+            writeTime(out, task.getCreatedAt());
+            writeTime(out, task.getUpdatedAt());
+            writeUser(out, task.getAssignee());
+            out.writeByte(task.getTaskStatus() == null ? -1 : task.getTaskStatus().ordinal());
+            out.writeByte(task.getTaskPriority() == null ? -1 : task.getTaskPriority().ordinal());
+            List<Comment> comments = task.getComments();
+            out.writeInt(comments.size());
+            for (Comment comment : comments) {
+                writeString(out, comment.getText());
+                writeTime(out, comment.getCreationTime());
+            }
+        });
+    }
+
+    // Each mutation record carries the version the change leaves the task at, so replay can
+    // skip the ones a snapshot already reflects.
+    public static byte[] encodeComment(Task task, int version, int position, Comment comment) {
+        return encode(COMMENT, out -> {
+            out.writeLong(task.getId());
+            out.writeInt(version);
+            // Position of the comment on the task, so replaying over a snapshot that already holds it is a no-op.
+            out.writeInt(position);
+            writeString(out, comment.getText());
+            writeTime(out, comment.getCreationTime());
+        });
+    }
+
+    public static byte[] encodeAssign(Task task, int version, LocalDateTime updatedAt, User assignee) {
+        return encode(ASSIGN, out -> {
+            out.writeLong(task.getId());
+            out.writeInt(version);
+            writeTime(out, updatedAt);
+            writeUser(out, assignee);
+        });
+    }
+
+    public static byte[] encodeStatus(Task task, int version, LocalDateTime updatedAt, TaskStatus status) {
+        return encode(STATUS, out -> {
+            out.writeLong(task.getId());
+            out.writeInt(version);
+            writeTime(out, updatedAt);
+            out.writeByte(status == null ? -1 : status.ordinal());
+        });
+    }
+
+    public static byte[] encodePriority(Task task, int version, LocalDateTime updatedAt, TaskPriority priority) {
+        return encode(PRIORITY, out -> {
+            out.writeLong(task.getId());
+            out.writeInt(version);
+            writeTime(out, updatedAt);
+            out.writeByte(priority == null ? -1 : priority.ordinal());
+        });
+    }
+
+    // Wraps already-encoded records so they become durable, and replay, all or nothing.
+    public static byte[] encodeBatch(List<byte[]> records) {
+        return encode(BATCH, out -> {
+            out.writeInt(records.size());
+            for (byte[] record : records) {
+                out.writeInt(record.length);
+                out.write(record);
+            }
+        });
+    }
+
+    static byte[] encodeSnapshotEnd(long tasks, long events) {
+        return encode(SNAPSHOT_END, out -> {
+            out.writeLong(tasks);
+            out.writeLong(events);
+        });
+    }
+
+    private interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(byte type, Body body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(type);
+            body.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeUser(DataOutputStream out, User user) throws IOException {
+        if (user == null) {
+            out.writeLong(NO_USER);
+            return;
+        }
+        out.writeLong(user.getId());
+        writeString(out, user.getName());
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        if (time == null) {
+            out.writeLong(NO_TIME);
+            return;
+        }
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) return null;
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    static long readUserId(ByteBuffer in) {
+        return in.getLong();
+    }
+
+    static boolean isUser(long userId) {
+        return userId != NO_USER;
+    }
+
+    static LocalDateTime readTime(ByteBuffer in) {
+        long seconds = in.getLong();
+        if (seconds == NO_TIME) return null;
+        return LocalDateTime.ofEpochSecond(seconds, in.getInt(), ZoneOffset.UTC);
+    }
+}
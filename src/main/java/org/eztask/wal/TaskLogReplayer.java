@@ -0,0 +1,157 @@
+package org.eztask.wal;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Applies decoded records through the regular TaskManager methods so indexes and
+// listeners rebuild exactly as they did live, then restores the logged timestamps.
+// Every record is idempotent against a snapshot taken after it was logged: creates of
+// known tasks and changes at or below the task's version are skipped, and a replayed change
+// leaves the task at the version it logged.
+public class TaskLogReplayer implements LogRecordHandler {
+    private final TaskManager taskManager;
+    private final Map<Long, User> users = new HashMap<>();
+    private long snapshotTasks = -1;
+    private long events;
+
+    public TaskLogReplayer(TaskManager taskManager) {
+        this.taskManager = taskManager;
+    }
+
+    @Override
+    public void accept(long lsn, ByteBuffer record) {
+        byte type = record.get();
+        if (type != TaskLogCodec.BATCH && type != TaskLogCodec.SNAPSHOT_END) events++;
+        switch (type) {
+            case TaskLogCodec.CREATE -> applyCreate(record);
+            case TaskLogCodec.COMMENT -> {
+                Task task = requireTask(record.getLong());
+                int version = record.getInt();
+                if (task.getVersion() >= version) return;
+                int position = record.getInt();
+                String text = TaskLogCodec.readString(record);
+                LocalDateTime creationTime = TaskLogCodec.readTime(record);
+                // The snapshot may hold the comment without the version bump that followed it.
+                if (task.getComments().size() <= position) {
+                    taskManager.addComment(task, new Comment(text, creationTime));
+                }
+                taskManager.restoreVersion(task, version);
+            }
+            case TaskLogCodec.ASSIGN -> {
+                Task task = requireTask(record.getLong());
+                int version = record.getInt();
+                if (task.getVersion() >= version) return;
+                LocalDateTime updatedAt = TaskLogCodec.readTime(record);
+                taskManager.assignTaskToUser(task, readUser(record));
+                task.setUpdatedAt(updatedAt);
+                taskManager.restoreVersion(task, version);
+            }
+            case TaskLogCodec.STATUS -> {
+                Task task = requireTask(record.getLong());
+                int version = record.getInt();
+                if (task.getVersion() >= version) return;
+                LocalDateTime updatedAt = TaskLogCodec.readTime(record);
+                taskManager.updateTaskStatus(task, status(record.get()));
+                task.setUpdatedAt(updatedAt);
+                taskManager.restoreVersion(task, version);
+            }
+            case TaskLogCodec.PRIORITY -> {
+                Task task = requireTask(record.getLong());
+                int version = record.getInt();
+                if (task.getVersion() >= version) return;
+                LocalDateTime updatedAt = TaskLogCodec.readTime(record);
+                taskManager.updateTaskPriority(task, priority(record.get()));
+                task.setUpdatedAt(updatedAt);
+                taskManager.restoreVersion(task, version);
+            }
+            case TaskLogCodec.BATCH -> {
+                int count = record.getInt();
+                for (int i = 0; i < count; i++) {
+                    int length = record.getInt();
+                    accept(lsn, record.slice(record.position(), length));
+                    record.position(record.position() + length);
+                }
+            }
+            case TaskLogCodec.SNAPSHOT_END -> {
+                snapshotTasks = record.getLong();
+                if (record.hasRemaining()) events = record.getLong();
+            }
+            default -> throw new IllegalStateException("Unknown log record type " + type);
+        }
+    }
+
+    // Task count from the snapshot trailer, or -1 if no trailer has been applied.
+    long getSnapshotTasks() {
+        return snapshotTasks;
+    }
+
+    // Change events the log accounts for so far: each logged change made one when it was first
+    // applied, whether or not replay has to apply it again.
+    public long getEvents() {
+        return events;
+    }
+
+    private void applyCreate(ByteBuffer record) {
+        long id = record.getLong();
+        Task.advanceIdsPast(id);
+        if (taskManager.getTask(id) != null) return;
+        int version = record.getInt();
+        String title = TaskLogCodec.readString(record);
+        String desc = TaskLogCodec.readString(record);
+        User creater = readUser(record);
+        LocalDateTime createdAt = TaskLogCodec.readTime(record);
+        LocalDateTime updatedAt = TaskLogCodec.readTime(record);
+        User assignee = readUser(record);
+        TaskStatus taskStatus = status(record.get());
+        TaskPriority taskPriority = priority(record.get());
+        int count = record.getInt();
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String text = TaskLogCodec.readString(record);
+            comments.add(new Comment(text, TaskLogCodec.readTime(record)));
+        }
+        Task task = new Task(id, title, desc, creater, createdAt, version);
+        task.setUpdatedAt(updatedAt);
+        task.setAssignee(assignee);
+        task.setTaskStatus(taskStatus);
+        task.setTaskPriority(taskPriority);
+        for (Comment comment : comments) {
+            task.addComment(comment);
+        }
+        taskManager.addTask(task);
+    }
+
+    private Task requireTask(long id) {
+        Task task = taskManager.getTask(id);
+        if (task == null) {
+            throw new IllegalStateException("Log references unknown task " + id);
+        }
+        return task;
+    }
+
+    private User readUser(ByteBuffer record) {
+        long id = TaskLogCodec.readUserId(record);
+        if (!TaskLogCodec.isUser(id)) return null;
+        String name = TaskLogCodec.readString(record);
+        return users.computeIfAbsent(id, key -> new User(key, name));
+    }
+
+    private static TaskStatus status(byte ordinal) {
+        return ordinal < 0 ? null : TaskStatus.values()[ordinal];
+    }
+
+    private static TaskPriority priority(byte ordinal) {
+        return ordinal < 0 ? null : TaskPriority.values()[ordinal];
+    }
+}
@@ -0,0 +1,281 @@
+package org.eztask.wal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// The log is a directory of segments named after the first lsn they may contain.
+// Appenders only copy frames into an in-memory buffer; a single flusher thread writes
+// whatever accumulated while the previous fsync was running, so one force() covers
+// every record appended in the meantime.
+public class WriteAheadLog implements Closeable {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final int INITIAL_BUFFER_BYTES = 1 << 16;
+
+    private final Path directory;
+    private FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition hasPending = lock.newCondition();
+    private final Condition hasFlushed = lock.newCondition();
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    private ByteBuffer flushing = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    private long appendedLsn;
+    private long durableLsn;
+    // Offset in the pending buffer where a new segment starts, or -1 when no roll is queued.
+    private int rollOffset = -1;
+    private long rollLsn;
+    private long rolledLsn;
+    private IOException failure;
+    private boolean closed;
+    private Thread flusher;
+
+    private WriteAheadLog(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    public static WriteAheadLog open(Path directory) throws IOException {
+        return new WriteAheadLog(directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private static Path segmentPath(Path directory, long firstLsn) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX));
+    }
+
+    private static long firstLsnOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>(files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).toList());
+            segments.sort((a, b) -> Long.compare(firstLsnOf(a), firstLsnOf(b)));
+            return segments;
+        }
+    }
+
+    // Feeds every intact record with lsn > afterLsn to the handler in lsn order, drops a torn
+    // tail from the newest segment and starts accepting appends. Must be called exactly once,
+    // before the first append.
+    public long replay(long afterLsn, LogRecordHandler handler) throws IOException {
+        if (flusher != null) {
+            throw new IllegalStateException("Log is already accepting appends");
+        }
+        long lastLsn = afterLsn;
+        List<Path> segments = segments();
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            boolean newest = i == segments.size() - 1;
+            long[] maxLsn = {lastLsn};
+            try (FileChannel in = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long valid = LogFrames.read(in, (lsn, payload) -> {
+                    if (lsn > afterLsn) handler.accept(lsn, payload);
+                    maxLsn[0] = Math.max(maxLsn[0], lsn);
+                });
+                if (valid < in.size()) {
+                    if (!newest) throw new IOException("Corrupt record in sealed segment " + segment);
+                    in.truncate(valid);
+                    in.force(true);
+                }
+            }
+            lastLsn = maxLsn[0];
+        }
+        appendedLsn = lastLsn;
+        durableLsn = lastLsn;
+        rolledLsn = lastLsn;
+        Path active = segments.isEmpty() ? segmentPath(directory, lastLsn + 1) : segments.get(segments.size() - 1);
+        channel = FileChannel.open(active, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        if (segments.isEmpty()) LogFrames.forceDirectory(directory);
+        startFlusher();
+        return lastLsn;
+    }
+
+    private void startFlusher() {
+        flusher = new Thread(this::flushLoop, "wal-flusher-" + directory.getFileName());
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public long append(byte[] payload) {
+        lock.lock();
+        try {
+            if (failure != null) throw new UncheckedIOException("Write-ahead log failed", failure);
+            if (closed || flusher == null) throw new IllegalStateException("Write-ahead log is not open for appends");
+            int needed = LogFrames.HEADER_BYTES + payload.length;
+            if (pending.remaining() < needed) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + needed));
+                pending.flip();
+                grown.put(pending);
+                pending = grown;
+            }
+            long lsn = ++appendedLsn;
+            LogFrames.put(pending, lsn, payload);
+            hasPending.signal();
+            return lsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void awaitDurable(long lsn) {
+        lock.lock();
+        try {
+            while (durableLsn < lsn && failure == null) {
+                hasFlushed.awaitUninterruptibly();
+            }
+            if (durableLsn < lsn) throw new UncheckedIOException("Write-ahead log failed", failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDurableLsn() {
+        lock.lock();
+        try {
+            return durableLsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Seals the active segment after everything appended so far and starts a new one.
+    // Appenders are not blocked; returns the last lsn of the sealed segments once the new
+    // segment is in place.
+    public long rollSegment() {
+        lock.lock();
+        try {
+            if (failure != null) throw new UncheckedIOException("Write-ahead log failed", failure);
+            if (closed || flusher == null) throw new IllegalStateException("Write-ahead log is not open for appends");
+            if (rollOffset < 0) {
+                rollOffset = pending.position();
+                rollLsn = appendedLsn;
+                hasPending.signal();
+            }
+            long boundary = rollLsn;
+            while (rolledLsn < boundary && failure == null) {
+                hasFlushed.awaitUninterruptibly();
+            }
+            if (rolledLsn < boundary) throw new UncheckedIOException("Write-ahead log failed", failure);
+            return boundary;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Deletes sealed segments whose records all have lsn <= coveredLsn.
+    public int deleteSegmentsThrough(long coveredLsn) throws IOException {
+        List<Path> segments = segments();
+        int deleted = 0;
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstLsnOf(segments.get(i + 1)) - 1 > coveredLsn) break;
+            Files.deleteIfExists(segments.get(i));
+            deleted++;
+        }
+        return deleted;
+    }
+
+    private void flushLoop() {
+        while (true) {
+            ByteBuffer batch;
+            long batchLsn;
+            int batchRollOffset;
+            long batchRollLsn;
+            lock.lock();
+            try {
+                while (pending.position() == 0 && rollOffset < 0 && !closed) {
+                    hasPending.awaitUninterruptibly();
+                }
+                if (pending.position() == 0 && rollOffset < 0) return;
+                batch = pending;
+                pending = flushing;
+                pending.clear();
+                flushing = batch;
+                batchLsn = appendedLsn;
+                batchRollOffset = rollOffset;
+                batchRollLsn = rollLsn;
+                rollOffset = -1;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                batch.flip();
+                if (batchRollOffset >= 0) {
+                    write(batch.slice(0, batchRollOffset));
+                    channel.force(false);
+                    channel.close();
+                    channel = FileChannel.open(segmentPath(directory, batchRollLsn + 1),
+                            StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    // Before the roll is reported, since a checkpoint then deletes older segments.
+                    LogFrames.forceDirectory(directory);
+                    batch.position(batchRollOffset);
+                }
+                write(batch);
+                channel.force(false);
+            } catch (IOException e) {
+                lock.lock();
+                try {
+                    failure = e;
+                    hasFlushed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            lock.lock();
+            try {
+                durableLsn = batchLsn;
+                if (batchRollOffset >= 0) rolledLsn = batchRollLsn;
+                hasFlushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            hasPending.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (channel != null) {
+            channel.close();
+        }
+        if (failure != null) throw failure;
+    }
+}
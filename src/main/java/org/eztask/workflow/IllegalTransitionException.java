@@ -0,0 +1,31 @@
+package org.eztask.workflow;
+
+import org.eztask.enums.TaskStatus;
+
+// The workflow does not allow the requested status change; nothing was applied.
+public class IllegalTransitionException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    private final long taskId;
+    private final TaskStatus from;
+    private final TaskStatus to;
+
+    public IllegalTransitionException(long taskId, TaskStatus from, TaskStatus to) {
+        super("Task " + taskId + " cannot move from " + from + " to " + to);
+        this.taskId = taskId;
+        this.from = from;
+        this.to = to;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public TaskStatus getFrom() {
+        return from;
+    }
+
+    public TaskStatus getTo() {
+        return to;
+    }
+}
@@ -0,0 +1,147 @@
+package org.eztask.workflow;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskChangeListener;
+import org.eztask.enums.TaskStatus;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+// Allowed status transitions and the hooks attached to them, in tables indexed by
+// (from, to) ordinal with slot 0 for "no status", so a check or a hook lookup is two array
+// reads. Writers copy the table and publish it through a volatile field, so readers never
+// lock. Staying in the same status is always allowed and never runs hooks.
+//
+// Synchronous hooks run on the mutating thread under the task's stripe lock, like any
+// listener; asynchronous hooks are handed to the executor, so slow I/O in them never delays
+// the update that triggered them. A failing hook does not stop the others: every hook runs,
+// and the first failure, with later ones suppressed, reaches the caller of the update. Hooks
+// do not run again for changes replayed from the write-ahead log.
+public class TaskStatusWorkflow implements TaskChangeListener {
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final int SLOTS = STATUSES.length + 1;
+    private static final TaskTransitionHook[] NO_HOOKS = new TaskTransitionHook[0];
+
+    private final Executor executor;
+    private volatile boolean[][] allowed = defaultTransitions();
+    private volatile TaskTransitionHook[][][] syncHooks = emptyHooks();
+    private volatile TaskTransitionHook[][][] asyncHooks = emptyHooks();
+
+    public TaskStatusWorkflow() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public TaskStatusWorkflow(Executor executor) {
+        this.executor = executor;
+    }
+
+    // The default workflow: a new task may enter any status, work can be picked up, handed back
+    // and completed, and completed work can only be reopened into DEV_IN_PROGRESS.
+    private static boolean[][] defaultTransitions() {
+        boolean[][] allowed = new boolean[SLOTS][SLOTS];
+        for (TaskStatus status : STATUSES) {
+            allowed[slot(null)][slot(status)] = true;
+        }
+        allowed[slot(TaskStatus.NOT_PICKED)][slot(TaskStatus.DEV_IN_PROGRESS)] = true;
+        allowed[slot(TaskStatus.NOT_PICKED)][slot(TaskStatus.COMPLETED)] = true;
+        allowed[slot(TaskStatus.DEV_IN_PROGRESS)][slot(TaskStatus.NOT_PICKED)] = true;
+        allowed[slot(TaskStatus.DEV_IN_PROGRESS)][slot(TaskStatus.COMPLETED)] = true;
+        allowed[slot(TaskStatus.COMPLETED)][slot(TaskStatus.DEV_IN_PROGRESS)] = true;
+        return allowed;
+    }
+
+    private static TaskTransitionHook[][][] emptyHooks() {
+        TaskTransitionHook[][][] hooks = new TaskTransitionHook[SLOTS][SLOTS][];
+        for (TaskTransitionHook[][] row : hooks) {
+            Arrays.fill(row, NO_HOOKS);
+        }
+        return hooks;
+    }
+
+    private static int slot(TaskStatus status) {
+        return status == null ? 0 : status.ordinal() + 1;
+    }
+
+    public synchronized TaskStatusWorkflow allow(TaskStatus from, TaskStatus to) {
+        return set(from, to, true);
+    }
+
+    public synchronized TaskStatusWorkflow forbid(TaskStatus from, TaskStatus to) {
+        return set(from, to, false);
+    }
+
+    private TaskStatusWorkflow set(TaskStatus from, TaskStatus to, boolean value) {
+        boolean[][] copy = allowed.clone();
+        copy[slot(from)] = copy[slot(from)].clone();
+        copy[slot(from)][slot(to)] = value;
+        allowed = copy;
+        return this;
+    }
+
+    public boolean isAllowed(TaskStatus from, TaskStatus to) {
+        return from == to || allowed[slot(from)][slot(to)];
+    }
+
+    // Called by TaskManager under the task's stripe lock, before anything is changed.
+    public void check(Task task, TaskStatus from, TaskStatus to) {
+        if (!isAllowed(from, to)) {
+            throw new IllegalTransitionException(task.getId(), from, to);
+        }
+    }
+
+    public synchronized TaskStatusWorkflow onTransition(TaskStatus from, TaskStatus to, TaskTransitionHook hook) {
+        syncHooks = withHook(syncHooks, from, to, hook);
+        return this;
+    }
+
+    public synchronized TaskStatusWorkflow onTransitionAsync(TaskStatus from, TaskStatus to, TaskTransitionHook hook) {
+        asyncHooks = withHook(asyncHooks, from, to, hook);
+        return this;
+    }
+
+    private static TaskTransitionHook[][][] withHook(TaskTransitionHook[][][] hooks, TaskStatus from, TaskStatus to,
+                                                     TaskTransitionHook hook) {
+        if (hook == null) throw new NullPointerException("hook");
+        TaskTransitionHook[][][] copy = hooks.clone();
+        copy[slot(from)] = copy[slot(from)].clone();
+        TaskTransitionHook[] cell = copy[slot(from)][slot(to)];
+        cell = Arrays.copyOf(cell, cell.length + 1);
+        cell[cell.length - 1] = hook;
+        copy[slot(from)][slot(to)] = cell;
+        return copy;
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus oldStatus, TaskStatus newStatus) {
+        if (oldStatus == newStatus) return;
+        RuntimeException failure = null;
+        for (TaskTransitionHook hook : syncHooks[slot(oldStatus)][slot(newStatus)]) {
+            try {
+                hook.onTransition(task, oldStatus, newStatus);
+            } catch (RuntimeException e) {
+                failure = combine(failure, e);
+            }
+        }
+        for (TaskTransitionHook hook : asyncHooks[slot(oldStatus)][slot(newStatus)]) {
+            try {
+                executor.execute(() -> hook.onTransition(task, oldStatus, newStatus));
+            } catch (RuntimeException e) {
+                failure = combine(failure, e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private static RuntimeException combine(RuntimeException failure, RuntimeException next) {
+        if (failure == null) return next;
+        failure.addSuppressed(next);
+        return failure;
+    }
+
+    // Hooks announce transitions to the outside world, which already heard about logged ones.
+    @Override
+    public boolean followsReplay() {
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package org.eztask.workflow;
+
+import org.eztask.entity.Task;
+import org.eztask.enums.TaskStatus;
+
+// Runs after a task moves from one status to another; from is null for a task that had none.
+@FunctionalInterface
+public interface TaskTransitionHook {
+    void onTransition(Task task, TaskStatus from, TaskStatus to);
+}
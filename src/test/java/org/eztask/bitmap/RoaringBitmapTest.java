@@ -0,0 +1,123 @@
+package org.eztask.bitmap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RoaringBitmap Tests")
+class RoaringBitmapTest {
+
+    private static final int UNIVERSE = 1 << 20;
+
+    // Mixes sparse chunks (array containers) with dense ones (bitmap containers).
+    private static BitSet randomSet(Random random) {
+        BitSet set = new BitSet();
+        for (int chunk = 0; chunk < UNIVERSE >>> 16; chunk++) {
+            int values = random.nextBoolean() ? random.nextInt(100) : 5_000 + random.nextInt(50_000);
+            for (int i = 0; i < values; i++) {
+                set.set((chunk << 16) + random.nextInt(1 << 16));
+            }
+        }
+        return set;
+    }
+
+    private static RoaringBitmap toBitmap(BitSet set) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        set.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+
+    private static void assertSameValues(BitSet expected, RoaringBitmap actual) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+        assertEquals(expected.cardinality(), actual.cardinality());
+    }
+
+    @Test
+    @DisplayName("Should add, remove and test membership across container types")
+    void testAddRemoveContains() {
+        // Arrange
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i * 2);
+        }
+        bitmap.add(1 << 30);
+        for (int i = 0; i < 8_000; i++) {
+            bitmap.remove(i * 2);
+        }
+
+        // Assert
+        assertEquals(2_001, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(16_000));
+        assertFalse(bitmap.contains(16_001));
+        assertTrue(bitmap.contains(1 << 30));
+    }
+
+    @Test
+    @DisplayName("Should match BitSet for and, or and andNot")
+    void testBinaryOperationsMatchBitSet() {
+        Random random = new Random(42);
+        for (int round = 0; round < 5; round++) {
+            // Arrange
+            BitSet left = randomSet(random);
+            BitSet right = randomSet(random);
+            RoaringBitmap and = toBitmap(left);
+            RoaringBitmap or = toBitmap(left);
+            RoaringBitmap andNot = toBitmap(left);
+            RoaringBitmap other = toBitmap(right);
+
+            // Act
+            and.and(other);
+            or.or(other);
+            andNot.andNot(other);
+
+            // Assert
+            BitSet expected = (BitSet) left.clone();
+            expected.and(right);
+            assertSameValues(expected, and);
+            expected = (BitSet) left.clone();
+            expected.or(right);
+            assertSameValues(expected, or);
+            expected = (BitSet) left.clone();
+            expected.andNot(right);
+            assertSameValues(expected, andNot);
+            assertSameValues(right, other);
+        }
+    }
+
+    @Test
+    @DisplayName("Should build ranges that are not aligned to containers")
+    void testRange() {
+        // Act
+        RoaringBitmap range = RoaringBitmap.range(65_000, 200_003);
+        RoaringBitmap empty = RoaringBitmap.range(10, 10);
+
+        // Assert
+        BitSet expected = new BitSet();
+        expected.set(65_000, 200_003);
+        assertSameValues(expected, range);
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not share state between a bitmap and its copy")
+    void testCopyIsIndependent() {
+        // Arrange
+        RoaringBitmap original = RoaringBitmap.of(1, 2, 3);
+        RoaringBitmap copy = original.copy();
+
+        // Act
+        copy.remove(2);
+        copy.add(70_000);
+
+        // Assert
+        assertArrayEquals(new int[]{1, 2, 3}, original.toArray());
+        assertArrayEquals(new int[]{1, 3, 70_000}, copy.toArray());
+    }
+}
@@ -0,0 +1,222 @@
+package org.eztask.cdc;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskChangePublisher Tests")
+class TaskChangePublisherTest {
+
+    private Task task;
+
+    // Requests the initial demand on subscribe and records everything it is sent.
+    private static class RecordingSubscriber implements Flow.Subscriber<TaskChangeEvent> {
+        final List<TaskChangeEvent> events = new CopyOnWriteArrayList<>();
+        final long initialDemand;
+        final CountDownLatch done;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+
+        RecordingSubscriber(long initialDemand, int expectedEvents) {
+            this.initialDemand = initialDemand;
+            this.done = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) subscription.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(TaskChangeEvent event) {
+            events.add(event);
+            done.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        task = new Task("Task", "Description", new User("Creator"));
+    }
+
+    private static TaskChangePublisher directPublisher(int capacity) {
+        return new TaskChangePublisher(capacity, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Should deliver events in sequence order within the requested demand")
+    void testDemandBoundsDelivery() {
+        // Arrange
+        TaskChangePublisher publisher = directPublisher(16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(2, 0);
+        publisher.subscribe(subscriber);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            publisher.onStatusChanged(task, null, TaskStatus.NOT_PICKED);
+        }
+        int beforeRequest = subscriber.events.size();
+        subscriber.subscription.request(10);
+
+        // Assert
+        assertEquals(2, beforeRequest);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), subscriber.events.stream().map(TaskChangeEvent::sequence).toList());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber that falls a full ring behind with a resumable offset")
+    void testSlowSubscriberIsDropped() {
+        // Arrange
+        TaskChangePublisher publisher = directPublisher(4);
+        RecordingSubscriber slow = new RecordingSubscriber(1, 0);
+        publisher.subscribe(slow);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            publisher.onCommentAdded(task, new Comment("Comment " + i));
+        }
+
+        // Assert
+        TaskChangeLagException lag = assertInstanceOf(TaskChangeLagException.class, slow.error);
+        assertEquals(1, lag.getResumeSequence());
+        assertEquals(1, slow.events.size());
+        assertEquals(6, publisher.oldestBufferedSequence());
+    }
+
+    @Test
+    @DisplayName("Should resume from a buffered sequence and reject one that was overwritten")
+    void testResumeFromOffset() {
+        // Arrange
+        TaskChangePublisher publisher = directPublisher(4);
+        for (int i = 0; i < 6; i++) {
+            publisher.onTaskAdded(task);
+        }
+        RecordingSubscriber resumed = new RecordingSubscriber(Long.MAX_VALUE, 0);
+        RecordingSubscriber tooOld = new RecordingSubscriber(Long.MAX_VALUE, 0);
+
+        // Act
+        publisher.subscribe(resumed, 3);
+        publisher.subscribe(tooOld, 1);
+        publisher.onTaskAdded(task);
+
+        // Assert
+        assertEquals(List.of(3L, 4L, 5L, 6L), resumed.events.stream().map(TaskChangeEvent::sequence).toList());
+        assertNull(resumed.error);
+        assertInstanceOf(TaskChangeLagException.class, tooOld.error);
+        assertTrue(tooOld.events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not signal onNext before onSubscribe returns")
+    void testNoSignalsDuringOnSubscribe() {
+        // Arrange
+        TaskChangePublisher publisher = directPublisher(4);
+        publisher.onTaskAdded(task);
+        boolean[] subscribing = new boolean[1];
+        boolean[] overlapped = new boolean[1];
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, 0) {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscribing[0] = true;
+                super.onSubscribe(subscription);
+                subscribing[0] = false;
+            }
+
+            @Override
+            public void onNext(TaskChangeEvent event) {
+                overlapped[0] |= subscribing[0];
+                super.onNext(event);
+            }
+        };
+
+        // Act
+        publisher.subscribe(subscriber, 0);
+
+        // Assert
+        assertFalse(overlapped[0]);
+        assertEquals(1, subscriber.events.size());
+    }
+
+    @Test
+    @DisplayName("Should continue numbering from a resumed sequence")
+    void testResumeAt() {
+        // Arrange
+        TaskChangePublisher publisher = directPublisher(4);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, 0);
+
+        // Act
+        publisher.resumeAt(100);
+        publisher.subscribe(subscriber);
+        publisher.onTaskAdded(task);
+
+        // Assert
+        assertEquals(List.of(100L), subscriber.events.stream().map(TaskChangeEvent::sequence).toList());
+        assertEquals(100, publisher.oldestBufferedSequence());
+        assertThrows(IllegalStateException.class, () -> publisher.resumeAt(200));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive requests")
+    void testNonPositiveRequest() {
+        // Arrange
+        TaskChangePublisher publisher = directPublisher(4);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, 0);
+        publisher.subscribe(subscriber);
+
+        // Act
+        subscriber.subscription.request(0);
+
+        // Assert
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    @Test
+    @DisplayName("Should stream every TaskManager mutation")
+    void testTaskManagerMutations() throws Exception {
+        // Arrange
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        TaskManager manager = TaskManager.getInstance();
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, 4);
+        manager.getChangePublisher().subscribe(subscriber);
+
+        // Act
+        manager.addTask(task);
+        manager.assignTaskToUser(task, new User("Alice"));
+        manager.updateTaskStatus(task, TaskStatus.COMPLETED);
+        manager.addComment(task, new Comment("Done"));
+
+        // Assert
+        assertTrue(subscriber.done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(TaskChangeEvent.Type.CREATED, TaskChangeEvent.Type.ASSIGNED,
+                        TaskChangeEvent.Type.STATUS_CHANGED, TaskChangeEvent.Type.COMMENT_ADDED),
+                subscriber.events.stream().map(TaskChangeEvent::type).toList());
+        assertEquals(TaskStatus.COMPLETED, subscriber.events.get(2).newValue());
+    }
+}
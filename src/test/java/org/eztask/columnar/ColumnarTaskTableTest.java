@@ -0,0 +1,218 @@
+package org.eztask.columnar;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskAssigneeSearchStrategy;
+import org.eztask.search.TaskSearcher;
+import org.eztask.search.TaskStatusSearchStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnarTaskTable Tests")
+class ColumnarTaskTableTest {
+
+    private TaskManager taskManager;
+    private ColumnarTaskTable table;
+    private User creator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        taskManager = TaskManager.getInstance();
+        table = taskManager.getColumnarTable();
+        creator = new User("Creator");
+    }
+
+    private Task add(String title) {
+        Task task = new Task(title, "Description", creator);
+        taskManager.addTask(task);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should backfill tasks added before the table was first used")
+    void testBuiltLazilyWithExistingTasks() throws Exception {
+        // Arrange
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        taskManager = TaskManager.getInstance();
+        Task early = add("Early");
+        taskManager.updateTaskStatus(early, TaskStatus.COMPLETED);
+
+        // Act
+        ColumnarTaskTable lazy = taskManager.getColumnarTable();
+        Task late = add("Late");
+        taskManager.updateTaskStatus(late, TaskStatus.COMPLETED);
+
+        // Assert
+        assertSame(lazy, taskManager.getColumnarTable());
+        assertEquals(2, lazy.size());
+        assertEquals(List.of(early, late), lazy.tasks(lazy.whereStatus(TaskStatus.COMPLETED)));
+    }
+
+    @Test
+    @DisplayName("Should produce a bitmap of rows matching a status")
+    void testWhereStatus() {
+        // Arrange
+        Task first = add("Task 1");
+        Task second = add("Task 2");
+        taskManager.updateTaskStatus(first, TaskStatus.COMPLETED);
+        taskManager.updateTaskStatus(second, TaskStatus.NOT_PICKED);
+
+        // Act
+        BitSet rows = table.whereStatus(TaskStatus.COMPLETED);
+
+        // Assert
+        assertEquals(1, rows.cardinality());
+        assertTrue(rows.get(first.getRowId()));
+        assertEquals(List.of(first), table.tasks(rows));
+    }
+
+    @Test
+    @DisplayName("Should track updates across chunk and word boundaries")
+    void testUpdatesAcrossChunks() {
+        // Arrange
+        int size = 40_000;
+        for (int i = 0; i < size; i++) {
+            Task task = add("Task " + i);
+            taskManager.updateTaskPriority(task, i % 3 == 0 ? TaskPriority.HIGH : TaskPriority.LOW);
+        }
+
+        // Act
+        BitSet high = table.wherePriority(TaskPriority.HIGH);
+
+        // Assert
+        assertEquals(size, table.size());
+        assertEquals((size + 2) / 3, high.cardinality());
+        for (int row = high.nextSetBit(0); row >= 0; row = high.nextSetBit(row + 1)) {
+            assertEquals(0, row % 3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should combine column filters with bitmap operations")
+    void testCombinedFilters() {
+        // Arrange
+        User alice = new User("Alice");
+        Task match = add("Task 1");
+        Task otherStatus = add("Task 2");
+        add("Task 3");
+        taskManager.assignTaskToUser(match, alice);
+        taskManager.assignTaskToUser(otherStatus, alice);
+        taskManager.updateTaskStatus(match, TaskStatus.DEV_IN_PROGRESS);
+
+        // Act
+        BitSet rows = table.whereAssignee(alice);
+        rows.and(table.whereStatus(TaskStatus.DEV_IN_PROGRESS));
+
+        // Assert
+        assertEquals(List.of(match), table.tasks(rows));
+    }
+
+    @Test
+    @DisplayName("Should match assignees by name and ignore unknown users")
+    void testAssigneeByName() {
+        // Arrange
+        Task task = add("Task");
+        taskManager.assignTaskToUser(task, new User("Alice"));
+        taskManager.assignTaskToUser(task, new User("Bob"));
+
+        // Act & Assert
+        assertTrue(table.whereAssignee(new User("Alice")).isEmpty());
+        assertEquals(List.of(task), table.tasks(table.whereAssignee(new User("Bob"))));
+        assertTrue(table.whereAssignee(new User("Nobody")).isEmpty());
+        assertEquals(List.of(task), table.tasks(table.whereCreater(new User("Creator"))));
+    }
+
+    @Test
+    @DisplayName("Should filter by half-open creation time range")
+    void testWhereCreatedBetween() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        Task early = new Task(1L, "Early", "Description", creator, base);
+        Task late = new Task(2L, "Late", "Description", creator, base.plusHours(2));
+        taskManager.addTask(early);
+        taskManager.addTask(late);
+
+        // Act
+        BitSet rows = table.whereCreatedBetween(base, base.plusHours(2));
+
+        // Assert
+        assertEquals(List.of(early), table.tasks(rows));
+    }
+
+    @Test
+    @DisplayName("Should not match rows whose task has not been filled in yet")
+    void testWhereCreatedBetweenSkipsUnfilledRows() {
+        // Arrange
+        add("First");
+        add("Second");
+        Task third = add("Third");
+        ColumnarTaskTable partial = new ColumnarTaskTable();
+        partial.onTaskAdded(third);
+
+        // Act
+        BitSet rows = partial.whereCreatedBetween(LocalDateTime.of(1969, 12, 31, 0, 0), LocalDateTime.of(2100, 1, 1, 0, 0));
+
+        // Assert
+        assertEquals(3, partial.size());
+        assertEquals(1, rows.cardinality());
+        assertTrue(rows.get(third.getRowId()));
+    }
+
+    @Test
+    @DisplayName("Should count rows by status and priority")
+    void testCountByStatusAndPriority() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            Task task = add("Task " + i);
+            taskManager.updateTaskStatus(task, TaskStatus.NOT_PICKED);
+            taskManager.updateTaskPriority(task, i < 2 ? TaskPriority.HIGH : TaskPriority.LOW);
+        }
+        BitSet all = new BitSet();
+        all.set(0, table.size());
+
+        // Act
+        long[][] counts = table.countByStatusAndPriority(all);
+
+        // Assert
+        assertEquals(2, counts[TaskStatus.NOT_PICKED.ordinal()][TaskPriority.HIGH.ordinal()]);
+        assertEquals(3, counts[TaskStatus.NOT_PICKED.ordinal()][TaskPriority.LOW.ordinal()]);
+        assertEquals(0, counts[TaskStatus.COMPLETED.ordinal()][TaskPriority.LOW.ordinal()]);
+    }
+
+    @Test
+    @DisplayName("Should let TaskSearcher target the columnar table")
+    void testTaskSearcherOverColumns() {
+        // Arrange
+        User alice = new User("Alice");
+        Task task = add("Task");
+        add("Other");
+        taskManager.assignTaskToUser(task, alice);
+        taskManager.updateTaskStatus(task, TaskStatus.COMPLETED);
+
+        // Act
+        List<Task> byAssignee = new TaskSearcher(new TaskAssigneeSearchStrategy()).search(table, alice);
+        List<Task> byStatus = new TaskSearcher(new TaskStatusSearchStrategy()).search(table, TaskStatus.COMPLETED);
+        List<Task> wrongCriteria = new TaskSearcher(new TaskStatusSearchStrategy()).search(table, "COMPLETED");
+
+        // Assert
+        assertEquals(List.of(task), byAssignee);
+        assertEquals(List.of(task), byStatus);
+        assertTrue(wrongCriteria.isEmpty());
+    }
+}
@@ -0,0 +1,156 @@
+package org.eztask.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AppendOnlyList Tests")
+class AppendOnlyListTest {
+
+    @Test
+    @DisplayName("Should keep elements in append order across chunks")
+    void testAppendOrderAcrossChunks() {
+        // Arrange
+        AppendOnlyList<Integer> list = new AppendOnlyList<>();
+
+        // Act
+        for (int i = 0; i < 5_000; i++) {
+            list.append(i);
+        }
+
+        // Assert
+        AppendOnlyList.Snapshot<Integer> snapshot = list.snapshot();
+        assertEquals(5_000, snapshot.size());
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals(i, snapshot.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should append a run of elements contiguously after single appends")
+    void testAppendAll() {
+        // Arrange
+        AppendOnlyList<Integer> list = new AppendOnlyList<>();
+        list.append(-1);
+        List<Integer> run = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            run.add(i);
+        }
+        list.ensureCapacity(4_000);
+
+        // Act
+        int first = list.appendAll(run);
+        int next = list.append(3_000);
+
+        // Assert
+        assertEquals(1, first);
+        assertEquals(3_001, next);
+        assertEquals(3_002, list.size());
+        for (int i = 0; i < 3_000; i++) {
+            assertEquals(i, list.get(first + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not see appends made after the snapshot was taken")
+    void testSnapshotIsStable() {
+        // Arrange
+        AppendOnlyList<String> list = new AppendOnlyList<>();
+        list.append("a");
+        list.append("b");
+
+        // Act
+        AppendOnlyList.Snapshot<String> snapshot = list.snapshot();
+        list.append("c");
+
+        // Assert
+        assertEquals(List.of("a", "b"), snapshot);
+        assertEquals(2, snapshot.version());
+        assertEquals(3, list.snapshot().version());
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(2));
+    }
+
+    @Test
+    @DisplayName("Should reject modification through the snapshot")
+    void testSnapshotIsImmutable() {
+        // Arrange
+        AppendOnlyList<String> list = new AppendOnlyList<>();
+        list.append("a");
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> list.snapshot().add("b"));
+    }
+
+    @Test
+    @DisplayName("Should expose only fully written elements to concurrent readers")
+    void testConcurrentAppendAndRead() throws Exception {
+        // Arrange
+        AppendOnlyList<Integer> list = new AppendOnlyList<>();
+        int writers = 8;
+        int perWriter = 20_000;
+        AtomicBoolean sawNull = new AtomicBoolean();
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int base = w * perWriter;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    list.append(base + i);
+                }
+            }));
+        }
+        Thread reader = new Thread(() -> {
+            // Bounded, and yielding between passes, so writers are not starved on a single CPU.
+            for (int pass = 0; pass < 200 && list.size() < writers * perWriter; pass++) {
+                for (Integer value : list.snapshot()) {
+                    if (value == null) sawNull.set(true);
+                }
+                Thread.yield();
+            }
+        });
+
+        // Act
+        reader.start();
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        reader.join();
+
+        // Assert
+        assertFalse(sawNull.get());
+        Set<Integer> values = new HashSet<>(list.snapshot());
+        assertEquals(writers * perWriter, values.size());
+    }
+
+    @Test
+    @DisplayName("Should split on chunk boundaries and keep encounter order in parallel")
+    void testParallelStreamOverSnapshot() {
+        // Arrange
+        AppendOnlyList<Integer> list = new AppendOnlyList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.append(i);
+        }
+        AppendOnlyList.Snapshot<Integer> snapshot = list.snapshot();
+
+        // Act
+        List<Integer> even = snapshot.parallelStream().filter(i -> i % 2 == 0).toList();
+        Spliterator<Integer> first = snapshot.spliterator();
+        Spliterator<Integer> prefix = first.trySplit();
+
+        // Assert
+        assertEquals(5_000, even.size());
+        for (int i = 0; i < even.size(); i++) {
+            assertEquals(i * 2, even.get(i));
+        }
+        assertEquals(0, prefix.estimateSize() % 1024);
+        assertEquals(10_000, prefix.estimateSize() + first.estimateSize());
+    }
+}
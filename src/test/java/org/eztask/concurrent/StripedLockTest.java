@@ -0,0 +1,69 @@
+package org.eztask.concurrent;
+
+import org.eztask.id.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StripedLock Tests")
+class StripedLockTest {
+
+    @Test
+    @DisplayName("Should round stripe count up to a power of two")
+    void testStripeCountRoundedUp() {
+        // Arrange & Act
+        StripedLock lock = new StripedLock(10);
+
+        // Assert
+        assertEquals(16, lock.size());
+        assertEquals(1, new StripedLock(1).size());
+        assertEquals(64, new StripedLock(64).size());
+    }
+
+    @Test
+    @DisplayName("Should map the same key to the same lock")
+    void testSameKeySameLock() {
+        // Arrange
+        StripedLock lock = new StripedLock(32);
+
+        // Act & Assert
+        assertSame(lock.get("task-1"), lock.get("task-1"));
+        assertSame(lock.get("task-1"), lock.getAt(lock.stripeOf("task-1")));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive stripe count")
+    void testRejectsInvalidStripeCount() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new StripedLock(0));
+    }
+
+    @Test
+    @DisplayName("Should spread consecutive time-ordered ids across stripes")
+    void testTimeOrderedIdsSpread() {
+        // Arrange
+        StripedLock lock = new StripedLock(64);
+        long start = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000;
+        AtomicLong millis = new AtomicLong(start);
+        TimeOrderedIdGenerator sameMillisecond = new TimeOrderedIdGenerator(() -> start);
+        TimeOrderedIdGenerator oneEachMillisecond = new TimeOrderedIdGenerator(millis::incrementAndGet);
+        Set<Integer> burst = new HashSet<>();
+        Set<Integer> trickle = new HashSet<>();
+
+        // Act
+        for (int i = 0; i < 256; i++) {
+            burst.add(lock.stripeOf(sameMillisecond.nextId()));
+            trickle.add(lock.stripeOf(oneEachMillisecond.nextId()));
+        }
+
+        // Assert
+        assertTrue(burst.size() >= 48, "burst ids hit " + burst.size() + " stripes");
+        assertTrue(trickle.size() >= 48, "trickle ids hit " + trickle.size() + " stripes");
+        assertEquals(0, new StripedLock(1).stripeOf(42L));
+    }
+}
@@ -0,0 +1,209 @@
+package org.eztask.dispatch;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskBatch;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskAssignmentEngine Tests")
+class TaskAssignmentEngineTest {
+
+    private TaskManager taskManager;
+    private TaskAssignmentEngine engine;
+    private User creator;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        taskManager = TaskManager.getInstance();
+        engine = taskManager.getAssignmentEngine();
+        creator = new User("Creator");
+        alice = new User("alice");
+        bob = new User("bob");
+    }
+
+    private Task add(TaskPriority priority, User assignee) {
+        Task task = new Task("Task", "Description", creator);
+        task.setTaskStatus(TaskStatus.NOT_PICKED);
+        task.setTaskPriority(priority);
+        task.setAssignee(assignee);
+        taskManager.addTask(task);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should weight open tasks by priority and drop completed ones")
+    void testLoadCounters() {
+        // Arrange
+        Task high = add(TaskPriority.HIGH, alice);
+        add(TaskPriority.LOW, alice);
+        Task moderate = add(TaskPriority.MODERATE, bob);
+
+        // Act
+        taskManager.updateTaskStatus(high, TaskStatus.COMPLETED);
+        taskManager.apply(new TaskBatch()
+                .assignTaskToUser(moderate, alice)
+                .updateTaskPriority(moderate, TaskPriority.HIGH));
+
+        // Assert
+        assertEquals(1 + 4, engine.loadOf(alice));
+        assertEquals(0, engine.loadOf(bob));
+        assertEquals(0, engine.loadOf(null));
+    }
+
+    @Test
+    @DisplayName("Should assign to the least-loaded registered user")
+    void testAssignToLeastLoaded() {
+        // Arrange
+        add(TaskPriority.HIGH, alice);
+        add(TaskPriority.LOW, bob);
+        User carol = new User("carol");
+        engine.addUser(alice);
+        engine.addUser(bob);
+        Task first = add(TaskPriority.MODERATE, null);
+        Task second = add(TaskPriority.MODERATE, null);
+
+        // Act
+        User firstPick = engine.assign(first);
+        User secondPick = engine.assign(second);
+        User thirdPick = engine.leastLoaded();
+        engine.addUser(carol);
+        engine.removeUser(bob);
+
+        // Assert
+        assertEquals(bob, firstPick);
+        assertEquals(bob, first.getAssignee());
+        assertEquals(bob, secondPick);
+        assertEquals(alice, thirdPick);
+        assertEquals(carol, engine.leastLoaded());
+    }
+
+    @Test
+    @DisplayName("Should return no user when nobody is registered")
+    void testNoEligibleUsers() {
+        // Arrange
+        Task task = add(TaskPriority.LOW, null);
+
+        // Act
+        User picked = engine.assign(task);
+
+        // Assert
+        assertNull(picked);
+        assertNull(task.getAssignee());
+        assertEquals(0, engine.rebalance());
+    }
+
+    @Test
+    @DisplayName("Should spread unassigned tasks heaviest first")
+    void testAssignUnassigned() {
+        // Arrange
+        engine.addUser(alice);
+        engine.addUser(bob);
+        add(TaskPriority.HIGH, null);
+        add(TaskPriority.MODERATE, null);
+        add(TaskPriority.MODERATE, null);
+        add(TaskPriority.LOW, null).setTaskStatus(TaskStatus.COMPLETED);
+
+        // Act
+        int assigned = engine.assignUnassigned();
+
+        // Assert
+        assertEquals(3, assigned);
+        assertEquals(4, engine.loadOf(alice));
+        assertEquals(4, engine.loadOf(bob));
+    }
+
+    @Test
+    @DisplayName("Should even out loads in one rebalance pass")
+    void testRebalance() {
+        // Arrange
+        User carol = new User("carol");
+        User outsider = new User("outsider");
+        for (int i = 0; i < 30; i++) {
+            add(TaskPriority.values()[i % 3], alice);
+        }
+        add(TaskPriority.HIGH, outsider);
+        engine.addUser(alice);
+        engine.addUser(bob);
+        engine.addUser(carol);
+
+        // Act
+        int moves = engine.rebalance();
+
+        // Assert
+        assertTrue(moves > 0);
+        long total = engine.loadOf(alice) + engine.loadOf(bob) + engine.loadOf(carol);
+        assertEquals(10 * (1 + 2 + 4), total);
+        for (User user : new User[]{alice, bob, carol}) {
+            assertTrue(Math.abs(engine.loadOf(user) - total / 3) <= 4, user + " has " + engine.loadOf(user));
+        }
+        assertEquals(4, engine.loadOf(outsider));
+    }
+
+    @Test
+    @DisplayName("Should leave out a task that changed after it was planned and assign the rest")
+    void testRebalanceSkipsConflicts() {
+        // Arrange
+        Task victim = add(TaskPriority.HIGH, null);
+        Task other = add(TaskPriority.LOW, null);
+        User outsider = new User("outsider");
+        boolean[] raced = {false};
+        TaskAssignmentEngine racing = new TaskAssignmentEngine(taskManager::getTaskList, batch -> {
+            if (!raced[0]) {
+                raced[0] = true;
+                taskManager.assignTaskToUser(victim, outsider);
+            }
+            taskManager.apply(batch);
+        });
+        taskManager.addListener(racing);
+        racing.addUser(alice);
+
+        // Act
+        int assigned = racing.assignUnassigned();
+
+        // Assert
+        assertEquals(1, assigned);
+        assertSame(outsider, victim.getAssignee());
+        assertSame(alice, other.getAssignee());
+        assertEquals(1, racing.loadOf(alice));
+    }
+
+    @Test
+    @DisplayName("Should handle users without a name")
+    void testNamelessUsers() {
+        // Arrange
+        User nameless = new User((String) null);
+        Task task = new Task("Task", "Description", creator);
+        task.setTaskPriority(TaskPriority.HIGH);
+        task.setAssignee(nameless);
+        TaskAssignmentEngine standalone = new TaskAssignmentEngine(() -> List.of(task), batch -> {
+        });
+        standalone.onTaskAdded(task);
+        standalone.addUser(nameless);
+        standalone.addUser(alice);
+        standalone.addUser(bob);
+
+        // Act
+        User least = standalone.leastLoaded();
+        int moves = standalone.rebalance();
+
+        // Assert
+        assertNotSame(nameless, least);
+        assertEquals(0, moves);
+        assertEquals(4, standalone.loadOf(nameless));
+    }
+}
@@ -0,0 +1,176 @@
+package org.eztask.dispatch;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskDispatchQueue Tests")
+class TaskDispatchQueueTest {
+
+    private TaskManager taskManager;
+    private TaskDispatchQueue queue;
+    private User creator;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        taskManager = TaskManager.getInstance();
+        queue = taskManager.getDispatchQueue();
+        creator = new User("Creator");
+        start = LocalDateTime.of(2024, 1, 1, 9, 0);
+    }
+
+    private Task add(int minutesOld, TaskPriority priority) {
+        Task task = new Task(Task.nextId(), "Task", "Description", creator, start.minusMinutes(minutesOld));
+        task.setTaskPriority(priority);
+        task.setTaskStatus(TaskStatus.NOT_PICKED);
+        taskManager.addTask(task);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should hand out higher priority first, then older first")
+    void testPickUpOrder() {
+        // Arrange
+        Task lowOld = add(50, TaskPriority.LOW);
+        Task highNew = add(1, TaskPriority.HIGH);
+        Task highOld = add(10, TaskPriority.HIGH);
+        Task moderate = add(30, TaskPriority.MODERATE);
+        Task none = add(90, null);
+        User worker = new User("Worker");
+
+        // Act
+        List<Task> order = new ArrayList<>();
+        for (Task next = queue.pollNext(worker); next != null; next = queue.pollNext(worker)) {
+            order.add(next);
+        }
+
+        // Assert
+        assertEquals(List.of(highOld, highNew, moderate, lowOld, none), order);
+        assertEquals(worker, highOld.getAssignee());
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, highOld.getTaskStatus());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @DisplayName("Should follow priority and status changes of queued tasks")
+    void testUpdatesReorderQueue() {
+        // Arrange
+        add(5, TaskPriority.HIGH);
+        Task low = add(60, TaskPriority.LOW);
+        Task picked = add(120, TaskPriority.HIGH);
+
+        // Act
+        taskManager.updateTaskPriority(low, TaskPriority.HIGH);
+        taskManager.updateTaskStatus(picked, TaskStatus.DEV_IN_PROGRESS);
+
+        // Assert
+        assertEquals(low, queue.peekNext());
+        assertEquals(2, queue.size());
+        taskManager.updateTaskStatus(picked, TaskStatus.NOT_PICKED);
+        assertEquals(picked, queue.peekNext());
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    @DisplayName("Should ignore tasks that are not waiting to be picked")
+    void testOnlyNotPickedTasksAreQueued() {
+        // Arrange
+        taskManager.addTask(new Task("Untriaged", "No status yet", creator));
+        Task task = add(1, TaskPriority.LOW);
+
+        // Act
+        taskManager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+
+        // Assert
+        assertNull(queue.peekNext());
+        assertNull(queue.pollNext(new User("Worker")));
+    }
+
+    @Test
+    @DisplayName("Should put a task back when claiming it fails for a reason other than a conflict")
+    void testFailedClaimRequeues() {
+        // Arrange
+        boolean[] failing = {true};
+        TaskDispatchQueue standalone = new TaskDispatchQueue(batch -> {
+            if (failing[0]) throw new IllegalStateException("log unavailable");
+        });
+        Task task = new Task(Task.nextId(), "Task", "Description", creator, start);
+        task.setTaskStatus(TaskStatus.NOT_PICKED);
+        standalone.onTaskAdded(task);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> standalone.pollNext(new User("Worker")));
+        int queuedAfterFailure = standalone.size();
+        failing[0] = false;
+        Task claimed = standalone.pollNext(new User("Worker"));
+
+        // Assert
+        assertEquals(1, queuedAfterFailure);
+        assertSame(task, claimed);
+        assertEquals(0, standalone.size());
+    }
+
+    @Test
+    @DisplayName("Should never hand the same task to two workers")
+    void testConcurrentClaimsAreExclusive() throws Exception {
+        // Arrange
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int i = 0; i < 2_000; i++) {
+            add(i, priorities[i % priorities.length]);
+        }
+        Set<Long> claimed = ConcurrentHashMap.newKeySet();
+        List<Integer> counts = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // Act
+        try {
+            for (int t = 0; t < 8; t++) {
+                User worker = new User("Worker " + t);
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    int count = 0;
+                    for (Task task = queue.pollNext(worker); task != null; task = queue.pollNext(worker)) {
+                        assertTrue(claimed.add(task.getId()));
+                        assertEquals(worker, task.getAssignee());
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            ready.countDown();
+            for (Future<Integer> future : futures) {
+                counts.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(2_000, claimed.size());
+        assertEquals(2_000, counts.stream().mapToInt(Integer::intValue).sum());
+    }
+}
@@ -0,0 +1,302 @@
+package org.eztask.entity;
+
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskSearchType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskBatch Tests")
+class TaskBatchTest {
+
+    @TempDir
+    Path dir;
+
+    private TaskManager taskManager;
+    private User creator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        resetSingleton();
+        taskManager = TaskManager.getInstance();
+        creator = new User("Creator");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TaskManager.getInstance().closeWriteAheadLog();
+        resetSingleton();
+    }
+
+    private void resetSingleton() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+    }
+
+    private Task add(String title) {
+        Task task = new Task(title, "Description", creator);
+        taskManager.addTask(task);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should apply every operation with one shared timestamp and keep indexes in step")
+    void testApplyUpdatesTasksAndIndexes() {
+        // Arrange
+        User assignee = new User("Assignee");
+        Task first = add("Task 1");
+        Task second = add("Task 2");
+        TaskBatch batch = new TaskBatch()
+                .updateTaskStatus(first, TaskStatus.DEV_IN_PROGRESS)
+                .updateTaskPriority(first, TaskPriority.HIGH)
+                .assignTaskToUser(second, assignee)
+                .updateTaskStatus(second, TaskStatus.COMPLETED);
+
+        // Act
+        taskManager.apply(batch);
+
+        // Assert
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, first.getTaskStatus());
+        assertEquals(TaskPriority.HIGH, first.getTaskPriority());
+        assertEquals(assignee, second.getAssignee());
+        assertEquals(TaskStatus.COMPLETED, second.getTaskStatus());
+        assertEquals(first.getUpdatedAt(), second.getUpdatedAt());
+        assertEquals(List.of(first), List.copyOf(taskManager.getIndex(TaskSearchType.STATUS).lookup(TaskStatus.DEV_IN_PROGRESS)));
+        assertEquals(List.of(second), List.copyOf(taskManager.getIndex(TaskSearchType.ASSIGNEE).lookup(assignee)));
+    }
+
+    @Test
+    @DisplayName("Should report chained changes to the same task in order with their old values")
+    void testListenersSeeOperationsInOrder() {
+        // Arrange
+        Task task = add("Task");
+        List<String> events = new ArrayList<>();
+        taskManager.addListener(new TaskChangeListener() {
+            @Override
+            public void onStatusChanged(Task changed, TaskStatus oldStatus, TaskStatus newStatus) {
+                events.add(oldStatus + "->" + newStatus);
+            }
+
+            @Override
+            public void onCommentAdded(Task changed, Comment comment) {
+                events.add(comment.getText());
+            }
+        });
+        TaskStatus initial = task.getTaskStatus();
+
+        // Act
+        taskManager.apply(new TaskBatch()
+                .updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS)
+                .addComment(task, new Comment("picked up"))
+                .updateTaskStatus(task, TaskStatus.COMPLETED));
+
+        // Assert
+        assertEquals(List.of(initial + "->DEV_IN_PROGRESS", "picked up", "DEV_IN_PROGRESS->COMPLETED"), events);
+        assertEquals(1, task.getComments().size());
+    }
+
+    @Test
+    @DisplayName("Should show listeners each task as it stood right after the operation")
+    void testListenersSeeIntermediateState() {
+        // Arrange
+        Task task = add("Task");
+        List<String> events = new ArrayList<>();
+        taskManager.addListener(new TaskChangeListener() {
+            @Override
+            public void onStatusChanged(Task changed, TaskStatus oldStatus, TaskStatus newStatus) {
+                events.add(oldStatus + "->" + newStatus + " at " + changed.getTaskPriority());
+            }
+
+            @Override
+            public void onPriorityChanged(Task changed, TaskPriority oldPriority, TaskPriority newPriority) {
+                events.add(oldPriority + "->" + newPriority + " at " + changed.getTaskStatus());
+            }
+        });
+        TaskStatus initialStatus = task.getTaskStatus();
+        TaskPriority initialPriority = task.getTaskPriority();
+
+        // Act
+        taskManager.apply(new TaskBatch()
+                .updateTaskPriority(task, TaskPriority.HIGH)
+                .updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS)
+                .updateTaskPriority(task, TaskPriority.LOW));
+
+        // Assert
+        assertEquals(List.of(
+                initialPriority + "->HIGH at " + initialStatus,
+                initialStatus + "->DEV_IN_PROGRESS at HIGH",
+                "HIGH->LOW at DEV_IN_PROGRESS"), events);
+    }
+
+    @Test
+    @DisplayName("Should ignore an empty batch and reject operations without a task")
+    void testEmptyBatchAndMissingTask() {
+        // Arrange
+        Task task = add("Task");
+        TaskBatch batch = new TaskBatch();
+        LocalDateTime updatedAt = task.getUpdatedAt();
+
+        // Act
+        taskManager.apply(batch);
+
+        // Assert
+        assertTrue(batch.isEmpty());
+        assertEquals(updatedAt, task.getUpdatedAt());
+        assertThrows(NullPointerException.class, () -> batch.updateTaskStatus(null, TaskStatus.COMPLETED));
+        assertThrows(NullPointerException.class, () -> batch.addComment(task, null));
+    }
+
+    @Test
+    @DisplayName("Should replay a batch from the write-ahead log after a restart")
+    void testBatchIsReplayed() throws Exception {
+        // Arrange
+        Path file = dir.resolve("tasks");
+        User assignee = new User("Assignee");
+        taskManager.openWriteAheadLog(file);
+        Task task = add("Task");
+        taskManager.apply(new TaskBatch()
+                .assignTaskToUser(task, assignee)
+                .updateTaskPriority(task, TaskPriority.HIGH)
+                .addComment(task, new Comment("on it")));
+        taskManager.closeWriteAheadLog();
+
+        // Act
+        resetSingleton();
+        TaskManager restarted = TaskManager.getInstance();
+        restarted.openWriteAheadLog(file);
+
+        // Assert
+        Task restored = restarted.getTask(task.getId());
+        assertEquals(assignee.getId(), restored.getAssignee().getId());
+        assertEquals(TaskPriority.HIGH, restored.getTaskPriority());
+        assertEquals("on it", restored.getComments().get(0).getText());
+        assertEquals(task.getUpdatedAt(), restored.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Should apply overlapping batches whole and without deadlock")
+    void testOverlappingBatchesDoNotDeadlock() throws Exception {
+        // Arrange
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            tasks.add(add("Task " + i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            boolean reversed = t % 2 == 1;
+            futures.add(executor.submit(() -> {
+                for (int round = 0; round < 200; round++) {
+                    TaskBatch batch = new TaskBatch();
+                    for (int i = 0; i < tasks.size(); i++) {
+                        Task task = tasks.get(reversed ? tasks.size() - 1 - i : i);
+                        batch.updateTaskPriority(task, TaskPriority.values()[round % TaskPriority.values().length]);
+                    }
+                    taskManager.apply(batch);
+                    taskManager.updateTaskStatus(tasks.get(round), TaskStatus.COMPLETED);
+                }
+            }));
+        }
+
+        // Assert
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        TaskPriority expected = tasks.get(0).getTaskPriority();
+        for (Task task : tasks) {
+            assertEquals(expected, task.getTaskPriority());
+        }
+    }
+
+    @Test
+    @DisplayName("Should bump the version once per mutation and leave it alone for expectations")
+    void testVersionCountsMutations() {
+        // Arrange
+        Task task = add("Task");
+        int initial = task.getVersion();
+
+        // Act
+        taskManager.updateTaskPriority(task, TaskPriority.LOW);
+        taskManager.apply(new TaskBatch()
+                .expectVersion(task, initial + 1)
+                .updateTaskStatus(task, TaskStatus.NOT_PICKED)
+                .addComment(task, new Comment("queued")));
+
+        // Assert
+        assertEquals(initial + 3, task.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should apply nothing and report the current version when an expectation fails")
+    void testFailedExpectationAppliesNothing() {
+        // Arrange
+        Task first = add("Task 1");
+        Task second = add("Task 2");
+        taskManager.updateTaskStatus(second, TaskStatus.COMPLETED);
+        List<String> events = new ArrayList<>();
+        taskManager.addListener(new TaskChangeListener() {
+            @Override
+            public void onStatusChanged(Task changed, TaskStatus oldStatus, TaskStatus newStatus) {
+                events.add(changed.getTitle());
+            }
+        });
+        TaskBatch batch = new TaskBatch()
+                .updateTaskStatus(first, TaskStatus.DEV_IN_PROGRESS)
+                .expectStatus(second, TaskStatus.NOT_PICKED)
+                .updateTaskStatus(second, TaskStatus.DEV_IN_PROGRESS);
+
+        // Act
+        TaskConflictException conflict = assertThrows(TaskConflictException.class, () -> taskManager.apply(batch));
+
+        // Assert
+        assertEquals(second.getId(), conflict.getTaskId());
+        assertEquals(second.getVersion(), conflict.getCurrentVersion());
+        assertNull(first.getTaskStatus());
+        assertEquals(TaskStatus.COMPLETED, second.getTaskStatus());
+        assertTrue(events.isEmpty());
+        assertThrows(TaskConflictException.class,
+                () -> taskManager.updateTaskStatus(first.getId(), first.getVersion() + 1, TaskStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Should restore task versions from the write-ahead log")
+    void testVersionIsReplayed() throws Exception {
+        // Arrange
+        Path file = dir.resolve("tasks");
+        taskManager.openWriteAheadLog(file);
+        Task task = add("Task");
+        taskManager.updateTaskStatus(task, TaskStatus.NOT_PICKED);
+        taskManager.apply(new TaskBatch()
+                .updateTaskPriority(task, TaskPriority.HIGH)
+                .assignTaskToUser(task, new User("Assignee")));
+        taskManager.closeWriteAheadLog();
+
+        // Act
+        resetSingleton();
+        TaskManager restarted = TaskManager.getInstance();
+        restarted.openWriteAheadLog(file);
+
+        // Assert
+        assertEquals(task.getVersion(), restarted.getTask(task.getId()).getVersion());
+    }
+}
@@ -0,0 +1,72 @@
+package org.eztask.entity;
+
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Task Footprint Tests")
+class TaskFootprintTest {
+
+    // Field-for-field copy of the original Task layout, kept as the baseline.
+    @SuppressWarnings("unused")
+    private static class OriginalTaskLayout {
+        private final String id = UUID.randomUUID().toString();
+        private final String title;
+        private final String desc;
+        private final User assignee;
+        private final TaskStatus taskStatus = TaskStatus.DEV_IN_PROGRESS;
+        private final TaskPriority taskPriority = TaskPriority.HIGH;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final LocalDateTime updatedAt = LocalDateTime.now();
+        private final User creater;
+        private final List<Comment> comments = new ArrayList<>();
+
+        OriginalTaskLayout(String title, String desc, User creater, User assignee) {
+            this.title = title;
+            this.desc = desc;
+            this.creater = creater;
+            this.assignee = assignee;
+        }
+    }
+
+    // Bytes owned by one task, leaving out what every representation shares: the
+    // title/desc strings, the users and the enum constants.
+    private static long ownedBytes(Object task, String title, String desc, User creator, User assignee) {
+        GraphLayout shared = GraphLayout.parseInstance(title, desc, creator, assignee,
+                TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH);
+        return GraphLayout.parseInstance(task).subtract(shared).totalSize();
+    }
+
+    @Test
+    @DisplayName("Should take at least 3x less heap per task than the original layout")
+    void testFootprintReduction() {
+        // Arrange
+        String title = "Task title";
+        String desc = "Task description";
+        User creator = new User("Creator");
+        User assignee = new User("Assignee");
+        Task compact = new Task(title, desc, creator);
+        compact.setAssignee(assignee);
+        compact.setTaskStatus(TaskStatus.DEV_IN_PROGRESS);
+        compact.setTaskPriority(TaskPriority.HIGH);
+        compact.setUpdatedAt(LocalDateTime.now());
+        OriginalTaskLayout original = new OriginalTaskLayout(title, desc, creator, assignee);
+
+        // Act
+        long compactBytes = ownedBytes(compact, title, desc, creator, assignee);
+        long originalBytes = ownedBytes(original, title, desc, creator, assignee);
+
+        // Assert
+        assertTrue(originalBytes >= 3 * compactBytes,
+                "original=" + originalBytes + "B compact=" + compactBytes + "B");
+    }
+}
@@ -0,0 +1,197 @@
+package org.eztask.entity;
+
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskManager Concurrency Tests")
+class TaskManagerConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    private User creator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        creator = new User("Creator");
+    }
+
+    private void runConcurrently(int threads, Runnable work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    work.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not lose tasks created from many threads")
+    void testParallelCreatesAreNotLost() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        int perThread = 5_000;
+
+        // Act
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < perThread; i++) {
+                manager.createTask("Task " + i, "Description", creator);
+            }
+        });
+
+        // Assert
+        List<Task> tasks = manager.getTaskList();
+        assertEquals(THREADS * perThread, tasks.size());
+        Set<Long> ids = new HashSet<>();
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        assertEquals(THREADS * perThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("Should not lose comments added to shared tasks from many threads")
+    void testParallelCommentsAreNotLost() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        for (int i = 0; i < 4; i++) {
+            manager.createTask("Task " + i, "Description", creator);
+        }
+        List<Task> tasks = manager.getTaskList();
+        int perThread = 500;
+
+        // Act
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < perThread; i++) {
+                manager.addComment(tasks.get(i % tasks.size()), new Comment("comment " + i));
+            }
+        });
+
+        // Assert
+        int total = 0;
+        for (Task task : tasks) {
+            total += task.getComments().size();
+        }
+        assertEquals(THREADS * perThread, total);
+    }
+
+    @Test
+    @DisplayName("Should leave every task in a consistent state after concurrent updates")
+    void testParallelUpdatesOnDistinctTasks() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        for (int i = 0; i < 1_000; i++) {
+            manager.createTask("Task " + i, "Description", creator);
+        }
+        List<Task> tasks = manager.getTaskList();
+        User assignee = new User("Assignee");
+
+        // Act
+        runConcurrently(THREADS, () -> {
+            for (Task task : tasks) {
+                manager.assignTaskToUser(task, assignee);
+                manager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+                manager.updateTaskPriority(task, TaskPriority.HIGH);
+            }
+        });
+
+        // Assert
+        for (Task task : tasks) {
+            assertSame(assignee, task.getAssignee());
+            assertEquals(TaskStatus.DEV_IN_PROGRESS, task.getTaskStatus());
+            assertEquals(TaskPriority.HIGH, task.getTaskPriority());
+        }
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many racing transitions win")
+    void testRacingTransitionsHaveOneWinner() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        Task task = new Task("Task", "Description", creator);
+        manager.addTask(task);
+        manager.updateTaskStatus(task, TaskStatus.NOT_PICKED);
+        AtomicInteger wins = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // Act
+        runConcurrently(THREADS, () -> {
+            try {
+                manager.transitionStatus(task.getId(), TaskStatus.NOT_PICKED, TaskStatus.DEV_IN_PROGRESS);
+                wins.incrementAndGet();
+            } catch (TaskConflictException e) {
+                conflicts.incrementAndGet();
+            }
+        });
+
+        // Assert
+        assertEquals(1, wins.get());
+        assertEquals(THREADS - 1, conflicts.get());
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, task.getTaskStatus());
+        assertEquals(2, task.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should not lose versioned updates retried from many threads and report each one's version")
+    void testVersionedUpdatesAreNotLost() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        Task task = new Task("Task", "Description", creator);
+        manager.addTask(task);
+        int perThread = 200;
+        TaskStatus[] statuses = {TaskStatus.NOT_PICKED, TaskStatus.DEV_IN_PROGRESS};
+        Set<Integer> returned = ConcurrentHashMap.newKeySet();
+
+        // Act
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < perThread; i++) {
+                while (true) {
+                    int version = task.getVersion();
+                    try {
+                        int updated = manager.updateTaskStatus(task.getId(), version, statuses[version % statuses.length]);
+                        assertEquals(version + 1, updated);
+                        returned.add(updated);
+                        break;
+                    } catch (TaskConflictException e) {
+                        assertTrue(e.getCurrentVersion() > version);
+                    }
+                }
+            }
+        });
+
+        // Assert
+        assertEquals(THREADS * perThread, task.getVersion());
+        assertEquals(THREADS * perThread, returned.size());
+    }
+}
@@ -5,9 +5,16 @@ import org.eztask.enums.TaskStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.eztask.search.TaskSearchType;
+import org.eztask.wal.WriteAheadLog;
 
 import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -217,4 +224,177 @@ class TaskManagerTest {
         assertEquals(TaskStatus.DEV_IN_PROGRESS, task.getTaskStatus());
         assertEquals(TaskPriority.HIGH, task.getTaskPriority());
     }
+
+    @Test
+    @DisplayName("Should look up task by id")
+    void testGetTaskById() {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.createTask("Task 1", "Description 1", creator);
+        manager.createTask("Task 2", "Description 2", creator);
+        Task task = manager.getTaskList().get(1);
+
+        // Act
+        Task found = manager.getTask(task.getId());
+
+        // Assert
+        assertSame(task, found);
+        assertNull(manager.getTask(-1L));
+    }
+
+    @Test
+    @DisplayName("Should update task by id")
+    void testUpdateTaskById() {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.createTask("Task 1", "Description 1", creator);
+        Task task = manager.getTaskList().get(0);
+
+        // Act
+        manager.assignTaskToUser(task.getId(), assignee);
+        manager.updateTaskStatus(task.getId(), TaskStatus.COMPLETED);
+        manager.updateTaskPriority(task.getId(), TaskPriority.LOW);
+        manager.addComment(task.getId(), new Comment("done"));
+
+        // Assert
+        assertEquals(assignee, task.getAssignee());
+        assertEquals(TaskStatus.COMPLETED, task.getTaskStatus());
+        assertEquals(TaskPriority.LOW, task.getTaskPriority());
+        assertEquals(1, task.getComments().size());
+    }
+
+    @Test
+    @DisplayName("Should reject updates for unknown task id")
+    void testUpdateUnknownTaskId() {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class,
+                () -> manager.updateTaskStatus(-1L, TaskStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Should reject a task whose id is already present")
+    void testAddTaskRejectsDuplicateId() {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        Task task = new Task("Task 1", "Description 1", creator);
+        Task sameId = new Task(task.getId(), "Task 2", "Description 2", creator, LocalDateTime.now());
+
+        // Act
+        manager.addTask(task);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> manager.addTask(task));
+        assertThrows(IllegalArgumentException.class, () -> manager.addTask(sameId));
+        assertEquals(List.of(task), manager.getTaskList());
+    }
+
+    @Test
+    @DisplayName("Should leave the task untouched when the log append fails")
+    void testFailedAppendChangesNothing(@TempDir Path dir) throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(dir);
+        Task task = new Task("Task 1", "Description 1", creator);
+        manager.addTask(task);
+        Field field = TaskManager.class.getDeclaredField("writeAheadLog");
+        field.setAccessible(true);
+        ((WriteAheadLog) field.get(manager)).close();
+        int version = task.getVersion();
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> manager.updateTaskStatus(task, TaskStatus.NOT_PICKED));
+        assertThrows(IllegalStateException.class, () -> manager.addComment(task, new Comment("lost")));
+        assertThrows(IllegalStateException.class,
+                () -> manager.apply(new TaskBatch().updateTaskPriority(task, TaskPriority.HIGH)));
+
+        // Assert
+        assertNull(task.getTaskStatus());
+        assertNull(task.getTaskPriority());
+        assertTrue(task.getComments().isEmpty());
+        assertEquals(version, task.getVersion());
+        assertTrue(manager.getIndex(TaskSearchType.STATUS).lookup(TaskStatus.NOT_PICKED).isEmpty());
+        field.set(manager, null);
+    }
+
+    @Test
+    @DisplayName("Should run every listener and keep the change when one listener throws")
+    void testFailingListenerDoesNotStopOthers() {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        Task task = new Task("Task 1", "Description 1", creator);
+        manager.addTask(task);
+        manager.addListener(new TaskChangeListener() {
+            @Override
+            public void onStatusChanged(Task changed, TaskStatus oldStatus, TaskStatus newStatus) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+        List<TaskStatus> seen = new ArrayList<>();
+        manager.addListener(new TaskChangeListener() {
+            @Override
+            public void onStatusChanged(Task changed, TaskStatus oldStatus, TaskStatus newStatus) {
+                seen.add(newStatus);
+            }
+        });
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> manager.updateTaskStatus(task, TaskStatus.NOT_PICKED));
+
+        // Assert
+        assertEquals(TaskStatus.NOT_PICKED, task.getTaskStatus());
+        assertEquals(List.of(TaskStatus.NOT_PICKED), seen);
+        assertEquals(List.of(task), List.copyOf(manager.getIndex(TaskSearchType.STATUS).lookup(TaskStatus.NOT_PICKED)));
+    }
+
+    @Test
+    @DisplayName("Should run every listener and keep a bulk add when one listener throws")
+    void testFailingListenerDoesNotStopBulkAdd() {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            tasks.add(new Task("Task " + i, "Description " + i, creator));
+        }
+        manager.addListener(new TaskChangeListener() {
+            @Override
+            public void onTasksAdded(List<Task> added) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+        List<Integer> seen = new ArrayList<>();
+        manager.addListener(new TaskChangeListener() {
+            @Override
+            public void onTasksAdded(List<Task> added) {
+                seen.add(added.size());
+            }
+        });
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> manager.addTasks(tasks));
+
+        // Assert
+        assertEquals(5000, manager.getTaskList().size());
+        assertEquals(List.of(5000), seen);
+        assertSame(tasks.get(4999), manager.getTask(tasks.get(4999).getId()));
+    }
+
+    @Test
+    @DisplayName("Should return snapshot that ignores later creates")
+    void testSnapshotIsPointInTime() {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.createTask("Task 1", "Description 1", creator);
+
+        // Act
+        List<Task> snapshot = manager.snapshot();
+        manager.createTask("Task 2", "Description 2", creator);
+
+        // Assert
+        assertEquals(1, snapshot.size());
+        assertEquals(2, manager.snapshot().size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new Task("x", "y", creator)));
+    }
 }
@@ -195,4 +195,15 @@ class TaskTest {
         assertTrue(result.contains("Task"));
         assertTrue(result.contains("Description"));
     }
+
+    @Test
+    @DisplayName("Should assign increasing ids in creation order")
+    void testIdsFollowCreationOrder() {
+        // Arrange & Act
+        Task first = new Task("First", "Description", creator);
+        Task second = new Task("Second", "Description", creator);
+
+        // Assert
+        assertTrue(second.getId() > first.getId());
+    }
 }
@@ -0,0 +1,86 @@
+package org.eztask.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeOrderedIdGenerator Tests")
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("Should encode the clock in the high bits")
+    void testTimestampRoundTrip() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> now);
+
+        // Act
+        long id = generator.nextId();
+
+        // Assert
+        assertEquals(now, TimeOrderedIdGenerator.timestampOf(id));
+    }
+
+    @Test
+    @DisplayName("Should keep increasing when the clock stands still or goes backwards")
+    void testMonotonicUnderClockSkew() {
+        // Arrange
+        long[] clock = {System.currentTimeMillis()};
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> clock[0]);
+
+        // Act
+        long first = generator.nextId();
+        long second = generator.nextId();
+        clock[0] -= 10_000;
+        long third = generator.nextId();
+
+        // Assert
+        assertTrue(second > first);
+        assertTrue(third > second);
+    }
+
+    @Test
+    @DisplayName("Should hand out unique increasing ids per thread under contention")
+    void testConcurrentUniqueness() throws Exception {
+        // Arrange
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        int threads = 8;
+        int perThread = 50_000;
+        List<long[]> results = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        AtomicBoolean outOfOrder = new AtomicBoolean();
+        for (int t = 0; t < threads; t++) {
+            long[] ids = new long[perThread];
+            results.add(ids);
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.nextId();
+                    if (i > 0 && ids[i] <= ids[i - 1]) outOfOrder.set(true);
+                }
+            }));
+        }
+
+        // Act
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Assert
+        Set<Long> unique = new HashSet<>();
+        for (long[] ids : results) {
+            for (long id : ids) {
+                unique.add(id);
+            }
+        }
+        assertFalse(outOfOrder.get());
+        assertEquals(threads * perThread, unique.size());
+    }
+}
@@ -0,0 +1,64 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskAssigneeIndex Tests")
+class TaskAssigneeIndexTest {
+
+    private TaskAssigneeIndex index;
+    private Task task;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskAssigneeIndex();
+        task = new Task("Task", "Description", new User("Creator"));
+        alice = new User("Alice");
+        bob = new User("Bob");
+    }
+
+    @Test
+    @DisplayName("Should index reassignment under the new assignee only")
+    void testReassignment() {
+        // Arrange
+        index.onTaskAdded(task);
+        index.onAssigneeChanged(task, null, alice);
+
+        // Act
+        index.onAssigneeChanged(task, alice, bob);
+
+        // Assert
+        assertTrue(index.lookup(alice).isEmpty());
+        assertTrue(index.lookup(bob).contains(task));
+    }
+
+    @Test
+    @DisplayName("Should match assignees by name like the search strategy")
+    void testLookupByName() {
+        // Arrange
+        index.onAssigneeChanged(task, null, alice);
+
+        // Act & Assert
+        assertTrue(index.lookup(new User("Alice")).contains(task));
+    }
+
+    @Test
+    @DisplayName("Should drop task from index when unassigned")
+    void testUnassign() {
+        // Arrange
+        index.onAssigneeChanged(task, null, alice);
+
+        // Act
+        index.onAssigneeChanged(task, alice, null);
+
+        // Assert
+        assertTrue(index.lookup(alice).isEmpty());
+    }
+}
@@ -0,0 +1,163 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskAssigneeSearchStrategy;
+import org.eztask.search.TaskPrioritySearchStrategy;
+import org.eztask.search.TaskQuery;
+import org.eztask.search.TaskSearchStrategy;
+import org.eztask.search.TaskStatusSearchStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.eztask.search.TaskQuery.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TaskBitmapIndex Tests")
+class TaskBitmapIndexTest {
+
+    private TaskManager manager;
+    private TaskBitmapIndex index;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        manager = TaskManager.getInstance();
+        index = manager.getBitmapIndex();
+        alice = new User("Alice");
+        bob = new User("Bob");
+
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 0; i < 300; i++) {
+            manager.createTask("Task " + i, "Description", i % 2 == 0 ? alice : bob);
+        }
+        List<Task> tasks = manager.getTaskList();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            manager.updateTaskStatus(task, statuses[i % statuses.length]);
+            manager.updateTaskPriority(task, i % 4 == 0 ? TaskPriority.HIGH : TaskPriority.LOW);
+            manager.assignTaskToUser(task, i % 5 == 0 ? alice : bob);
+        }
+    }
+
+    private long bruteForce(TaskQuery query) {
+        return manager.getTaskList().stream().filter(query::matches).count();
+    }
+
+    @Test
+    @DisplayName("Should count AND NOT combinations exactly")
+    void testHighAndNotCompleted() {
+        // Arrange
+        TaskQuery query = and(
+                where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH),
+                not(where(new TaskStatusSearchStrategy(), TaskStatus.COMPLETED)));
+
+        // Act
+        long count = index.count(query);
+
+        // Assert
+        assertEquals(bruteForce(query), count);
+        assertTrue(count > 0);
+    }
+
+    @Test
+    @DisplayName("Should answer OR across dimensions")
+    void testOrAcrossDimensions() {
+        // Arrange
+        TaskQuery query = or(
+                where(new TaskAssigneeSearchStrategy(), alice),
+                and(where(new TaskStatusSearchStrategy(), TaskStatus.NOT_PICKED),
+                        where(new TaskPrioritySearchStrategy(), TaskPriority.LOW)));
+
+        // Act & Assert
+        assertEquals(bruteForce(query), index.count(query));
+    }
+
+    @Test
+    @DisplayName("Should follow status and assignee changes incrementally")
+    void testIncrementalUpdates() {
+        // Arrange
+        Task task = manager.getTaskList().get(1);
+        TaskQuery completedByAlice = and(
+                where(new TaskStatusSearchStrategy(), TaskStatus.COMPLETED),
+                where(new TaskAssigneeSearchStrategy(), alice));
+        long before = index.count(completedByAlice);
+
+        // Act
+        manager.updateTaskStatus(task, TaskStatus.COMPLETED);
+        manager.assignTaskToUser(task, alice);
+
+        // Assert
+        assertEquals(before + 1, index.count(completedByAlice));
+        assertTrue(index.evaluate(completedByAlice).contains(task.getRowId()));
+        assertEquals(bruteForce(completedByAlice), index.count(completedByAlice));
+    }
+
+    @Test
+    @DisplayName("Should return null for leaves without a bitmap")
+    void testUnindexedLeaf() {
+        // Arrange
+        TaskSearchStrategy custom = mock(TaskSearchStrategy.class);
+        TaskQuery query = and(where(new TaskStatusSearchStrategy(), TaskStatus.COMPLETED), where(custom, "anything"));
+
+        // Act & Assert
+        assertNull(index.evaluate(query));
+        assertEquals(-1, index.count(query));
+    }
+
+    @Test
+    @DisplayName("Should match nothing for unknown users or wrong criteria types")
+    void testUnknownCriteria() {
+        // Act & Assert
+        assertEquals(0, index.count(where(new TaskAssigneeSearchStrategy(), new User("Nobody"))));
+        assertEquals(0, index.count(where(new TaskStatusSearchStrategy(), "COMPLETED")));
+        assertEquals(300, index.count(not(where(new TaskStatusSearchStrategy(), "COMPLETED"))));
+    }
+
+    @Test
+    @DisplayName("Should stay exact while many threads change priorities and others query")
+    void testConcurrentChangesAndQueries() throws Exception {
+        // Arrange
+        List<Task> tasks = manager.getTaskList();
+        TaskQuery high = where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                for (int round = 0; round < 50; round++) {
+                    for (int i = offset; i < tasks.size(); i += 4) {
+                        manager.updateTaskPriority(tasks.get(i), (i + round) % 3 == 0 ? TaskPriority.HIGH : TaskPriority.LOW);
+                    }
+                    assertTrue(index.count(high) >= 0);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(bruteForce(high), index.count(high));
+        assertEquals(tasks.size(), index.count(or(high, where(new TaskPrioritySearchStrategy(), TaskPriority.LOW))));
+    }
+}
@@ -0,0 +1,67 @@
+package org.eztask.index;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskStatusIndex Tests")
+class TaskStatusIndexTest {
+
+    private TaskStatusIndex index;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskStatusIndex();
+        task = new Task("Task", "Description", new User("Creator"));
+    }
+
+    @Test
+    @DisplayName("Should not index tasks without a status")
+    void testTaskWithoutStatusIsNotIndexed() {
+        // Act
+        index.onTaskAdded(task);
+
+        // Assert
+        for (TaskStatus status : TaskStatus.values()) {
+            assertTrue(index.lookup(status).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should move task between buckets on status change")
+    void testStatusChangeMovesBucket() {
+        // Arrange
+        task.setTaskStatus(TaskStatus.NOT_PICKED);
+        index.onTaskAdded(task);
+
+        // Act
+        index.onStatusChanged(task, TaskStatus.NOT_PICKED, TaskStatus.DEV_IN_PROGRESS);
+
+        // Assert
+        assertTrue(index.lookup(TaskStatus.NOT_PICKED).isEmpty());
+        Collection<Task> inProgress = index.lookup(TaskStatus.DEV_IN_PROGRESS);
+        assertEquals(1, inProgress.size());
+        assertTrue(inProgress.contains(task));
+    }
+
+    @Test
+    @DisplayName("Should return empty result for criteria of another type")
+    void testLookupWithWrongCriteriaType() {
+        // Arrange
+        task.setTaskStatus(TaskStatus.NOT_PICKED);
+        index.onTaskAdded(task);
+
+        // Act & Assert
+        assertTrue(index.lookup(TaskPriority.HIGH).isEmpty());
+        assertTrue(index.lookup(null).isEmpty());
+    }
+}
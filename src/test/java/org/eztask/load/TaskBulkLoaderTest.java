@@ -0,0 +1,223 @@
+package org.eztask.load;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskSearchType;
+import org.eztask.text.TaskTextIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskBulkLoader Tests")
+class TaskBulkLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    private TaskManager taskManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        resetSingleton();
+        taskManager = TaskManager.getInstance();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TaskManager.getInstance().closeWriteAheadLog();
+        resetSingleton();
+    }
+
+    private void resetSingleton() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+    }
+
+    private Path write(String name, List<String> lines) throws Exception {
+        Path file = dir.resolve(name);
+        Files.write(file, lines);
+        return file;
+    }
+
+    @Test
+    @DisplayName("Should load a CSV dump split into many small ranges in file order")
+    void testCsvAcrossRanges() throws Exception {
+        // Arrange
+        List<String> lines = new ArrayList<>();
+        lines.add("id,title,desc,creater,assignee,status,priority,createdAt");
+        for (int i = 0; i < 500; i++) {
+            lines.add((1000 + i) + ",\"Task " + i + ", part " + i % 3 + "\",\"Says \"\"hi\"\"\",alice,"
+                    + (i % 2 == 0 ? "bob" : "") + "," + (i % 5 == 0 ? "COMPLETED" : "NOT_PICKED") + ",HIGH,"
+                    + "2024-03-01T10:15:30.5");
+        }
+        Path file = write("tasks.csv", lines);
+
+        // Act
+        LoadProgress result = new TaskBulkLoader(taskManager, 4, 97, progress -> {
+        }).load(file);
+
+        // Assert
+        assertEquals(500, result.tasks());
+        List<Task> tasks = taskManager.getTaskList();
+        assertEquals(500, tasks.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(1000 + i, tasks.get(i).getId());
+            assertEquals(i, tasks.get(i).getRowId());
+        }
+        Task first = tasks.get(0);
+        assertEquals("Task 0, part 0", first.getTitle());
+        assertEquals("Says \"hi\"", first.getDesc());
+        assertEquals("alice", first.getCreater().getName());
+        assertSame(first.getCreater(), tasks.get(499).getCreater());
+        assertEquals("bob", first.getAssignee().getName());
+        assertNull(tasks.get(1).getAssignee());
+        assertEquals(TaskPriority.HIGH, first.getTaskPriority());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 500_000_000), first.getCreatedAt());
+        assertEquals(100, taskManager.getIndex(TaskSearchType.STATUS).lookup(TaskStatus.COMPLETED).size());
+    }
+
+    @Test
+    @DisplayName("Should load JSON lines with escapes, nulls and unknown keys")
+    void testJsonLines() throws Exception {
+        // Arrange
+        Path file = write("tasks.jsonl", List.of(
+                "{\"title\": \"Fix \\\"login\\\"\", \"desc\": \"Line\\nbreak caf\\u00e9\", \"creator\": \"alice\", \"priority\": \"LOW\", \"tags\": 3}",
+                "",
+                "{\"id\": 42, \"title\": \"Deploy\", \"desc\": null, \"creater\": \"bob\", \"status\": \"DEV_IN_PROGRESS\", \"urgent\": true}"));
+
+        // Act
+        LoadProgress result = new TaskBulkLoader(taskManager).load(file);
+
+        // Assert
+        assertEquals(2, result.tasks());
+        Task first = taskManager.getTaskList().get(0);
+        assertEquals("Fix \"login\"", first.getTitle());
+        assertEquals("Line\nbreak café", first.getDesc());
+        assertEquals(TaskPriority.LOW, first.getTaskPriority());
+        assertNotNull(first.getCreatedAt());
+        Task second = taskManager.getTask(42);
+        assertNull(second.getDesc());
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, second.getTaskStatus());
+        TaskTextIndex text = (TaskTextIndex) taskManager.getIndex(TaskSearchType.TEXT);
+        assertEquals(List.of(first), text.search("login café", 10));
+    }
+
+    @Test
+    @DisplayName("Should report progress per range")
+    void testProgress() throws Exception {
+        // Arrange
+        List<String> lines = new ArrayList<>();
+        lines.add("id,title");
+        for (int i = 0; i < 100; i++) {
+            lines.add(i + ",Task " + i);
+        }
+        Path file = write("tasks.csv", lines);
+        List<LoadProgress> reports = new ArrayList<>();
+
+        // Act
+        LoadProgress result = new TaskBulkLoader(taskManager, 2, 128, reports::add).load(file);
+
+        // Assert
+        assertEquals(100, result.tasks());
+        assertEquals(100, taskManager.getTaskList().size());
+        assertTrue(reports.size() > 1);
+        for (int i = 1; i < reports.size(); i++) {
+            assertTrue(reports.get(i).bytesRead() > reports.get(i - 1).bytesRead());
+        }
+        assertEquals(1.0, reports.get(reports.size() - 1).fractionDone());
+        assertEquals(Files.size(file), result.totalBytes());
+    }
+
+    @Test
+    @DisplayName("Should reject an id that is already loaded and keep earlier ranges")
+    void testDuplicateIds() throws Exception {
+        // Arrange
+        List<String> lines = new ArrayList<>();
+        lines.add("id,title");
+        for (int i = 0; i < 100; i++) {
+            lines.add(i + ",Task " + i);
+        }
+        lines.add("5,Task 5 again");
+        Path file = write("tasks.csv", lines);
+
+        // Act
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> new TaskBulkLoader(taskManager, 2, 128, progress -> {
+                }).load(file));
+
+        // Assert
+        assertTrue(error.getMessage().contains("Task 5 "), error.getMessage());
+        assertFalse(taskManager.getTaskList().isEmpty());
+        assertTrue(taskManager.getTaskList().size() < 100);
+        assertEquals("Task 5", taskManager.getTask(5).getTitle());
+    }
+
+    @Test
+    @DisplayName("Should move the id generator past the largest loaded id")
+    void testIdGeneratorAdvances() throws Exception {
+        // Arrange
+        long ahead = Task.nextId() + 1_000_000;
+        Path file = write("tasks.csv", List.of("id,title", ahead + ",Loaded"));
+
+        // Act
+        new TaskBulkLoader(taskManager).load(file);
+        Task created = new Task("Created", "Description", null);
+
+        // Assert
+        assertTrue(created.getId() > ahead);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed record with its byte offset")
+    void testMalformedRecord() throws Exception {
+        // Arrange
+        Path file = write("tasks.csv", List.of("title,status", "Good,NOT_PICKED", "Bad,SOMETIMES"));
+
+        // Act
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> new TaskBulkLoader(taskManager).load(file));
+
+        // Assert
+        assertTrue(error.getMessage().startsWith("Malformed record at byte 29"), error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> TaskBulkLoader.Format.of(dir.resolve("tasks.txt")));
+    }
+
+    @Test
+    @DisplayName("Should make bulk-loaded tasks durable in the write-ahead log")
+    void testBulkLoadIsReplayed() throws Exception {
+        // Arrange
+        Path log = dir.resolve("log");
+        taskManager.openWriteAheadLog(log);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            lines.add("{\"id\": " + (i + 1) + ", \"title\": \"Task " + i + "\", \"creater\": \"alice\"}");
+        }
+        new TaskBulkLoader(taskManager, 2, 1024, progress -> {
+        }).load(write("tasks.ndjson", lines));
+        taskManager.closeWriteAheadLog();
+
+        // Act
+        resetSingleton();
+        TaskManager restarted = TaskManager.getInstance();
+        restarted.openWriteAheadLog(log);
+
+        // Assert
+        assertEquals(300, restarted.getTaskList().size());
+        assertEquals("Task 299", restarted.getTask(300).getTitle());
+        assertEquals("alice", restarted.getTask(1).getCreater().getName());
+    }
+}
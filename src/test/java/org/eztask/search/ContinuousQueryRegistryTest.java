@@ -0,0 +1,165 @@
+package org.eztask.search;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ContinuousQueryRegistry Tests")
+class ContinuousQueryRegistryTest {
+
+    private TaskManager manager;
+    private ContinuousQueryRegistry registry;
+    private User creator;
+
+    // Records events as "<kind>:<title>" in arrival order.
+    private static class RecordingListener implements TaskQueryListener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onAdded(Task task) {
+            events.add("added:" + task.getTitle());
+        }
+
+        @Override
+        public void onRemoved(Task task) {
+            events.add("removed:" + task.getTitle());
+        }
+
+        @Override
+        public void onChanged(Task task) {
+            events.add("changed:" + task.getTitle());
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        manager = TaskManager.getInstance();
+        registry = manager.getContinuousQueries();
+        creator = new User("Creator");
+    }
+
+    private Task add(String title) {
+        Task task = new Task(title, "Description", creator);
+        manager.addTask(task);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should report tasks entering, changing within and leaving a status query")
+    void testStatusLifecycle() {
+        // Arrange
+        RecordingListener listener = new RecordingListener();
+        registry.subscribe(new TaskStatusSearchStrategy(), TaskStatus.DEV_IN_PROGRESS, listener);
+        Task task = add("Task");
+
+        // Act
+        manager.updateTaskStatus(task, TaskStatus.NOT_PICKED);
+        manager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+        manager.updateTaskPriority(task, TaskPriority.HIGH);
+        manager.addComment(task, new Comment("Progress"));
+        manager.updateTaskStatus(task, TaskStatus.COMPLETED);
+
+        // Assert
+        assertEquals(List.of("added:Task", "changed:Task", "changed:Task", "removed:Task"), listener.events);
+    }
+
+    @Test
+    @DisplayName("Should route by key so unrelated subscriptions are never evaluated")
+    void testRoutingSkipsOtherKeys() {
+        // Arrange
+        TaskSearchStrategy completed = spy(new TaskStatusSearchStrategy());
+        TaskQueryListener untouched = mock(TaskQueryListener.class);
+        registry.subscribe(completed, TaskStatus.COMPLETED, untouched);
+        RecordingListener alice = new RecordingListener();
+        registry.subscribe(new TaskAssigneeSearchStrategy(), new User("Alice"), alice);
+        Task task = add("Task");
+
+        // Act
+        manager.assignTaskToUser(task, new User("Alice"));
+        manager.updateTaskStatus(task, TaskStatus.NOT_PICKED);
+        manager.assignTaskToUser(task, new User("Bob"));
+
+        // Assert
+        verify(completed, never()).matches(any(), any());
+        verifyNoInteractions(untouched);
+        assertEquals(List.of("added:Task", "changed:Task", "removed:Task"), alice.events);
+    }
+
+    @Test
+    @DisplayName("Should evaluate unindexed queries and track their matches")
+    void testUnroutedQuery() {
+        // Arrange
+        Task existing = add("Fix login");
+        RecordingListener listener = new RecordingListener();
+        registry.subscribe(new TaskTextSearchStrategy(), "urgent", listener);
+        Task other = add("Unrelated");
+
+        // Act
+        manager.addComment(existing, new Comment("This is urgent"));
+        manager.updateTaskStatus(existing, TaskStatus.NOT_PICKED);
+        manager.updateTaskStatus(other, TaskStatus.NOT_PICKED);
+
+        // Assert
+        assertEquals(List.of("added:Fix login", "changed:Fix login"), listener.events);
+    }
+
+    @Test
+    @DisplayName("Should stop delivering after the subscription is closed")
+    void testClose() {
+        // Arrange
+        RecordingListener listener = new RecordingListener();
+        ContinuousQueryRegistry.Subscription subscription =
+                registry.subscribe(new TaskPrioritySearchStrategy(), TaskPriority.HIGH, listener);
+        Task task = add("Task");
+        manager.updateTaskPriority(task, TaskPriority.HIGH);
+
+        // Act
+        subscription.close();
+        manager.updateTaskPriority(task, TaskPriority.LOW);
+
+        // Assert
+        assertEquals(List.of("added:Task"), listener.events);
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    @DisplayName("Should report a task leaving a routed query only to subscriptions that held it")
+    void testRemovedOnlyWhenHeld() {
+        // Arrange
+        Task held = add("Held");
+        Task other = add("Other");
+        manager.updateTaskStatus(held, TaskStatus.DEV_IN_PROGRESS);
+        manager.updateTaskStatus(other, TaskStatus.DEV_IN_PROGRESS);
+        TaskSearchStrategy heldOnly = new TaskStatusSearchStrategy() {
+            @Override
+            public boolean matches(Task task, Object criteria) {
+                return super.matches(task, criteria) && task.getTitle().equals("Held");
+            }
+        };
+        RecordingListener listener = new RecordingListener();
+        registry.subscribe(heldOnly, TaskStatus.DEV_IN_PROGRESS, listener);
+
+        // Act
+        manager.updateTaskStatus(other, TaskStatus.COMPLETED);
+        manager.updateTaskStatus(held, TaskStatus.COMPLETED);
+
+        // Assert
+        assertEquals(List.of("removed:Held"), listener.events);
+    }
+}
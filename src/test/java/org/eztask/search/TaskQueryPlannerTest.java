@@ -0,0 +1,168 @@
+package org.eztask.search;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.eztask.search.TaskQuery.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TaskQueryPlanner Tests")
+class TaskQueryPlannerTest {
+
+    private TaskManager manager;
+    private TaskQueryPlanner planner;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        manager = TaskManager.getInstance();
+        planner = new TaskQueryPlanner(manager);
+        alice = new User("Alice");
+        bob = new User("Bob");
+
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int i = 0; i < 90; i++) {
+            manager.createTask("Task " + i, "Description", i % 2 == 0 ? alice : bob);
+        }
+        List<Task> tasks = manager.getTaskList();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            manager.updateTaskStatus(task, statuses[i % statuses.length]);
+            // Only every ninth task is HIGH, so priority is the most selective dimension.
+            manager.updateTaskPriority(task, i % 9 == 0 ? TaskPriority.HIGH : priorities[i % 2]);
+            manager.assignTaskToUser(task, i % 5 == 0 ? alice : bob);
+        }
+    }
+
+    private List<Task> bruteForce(TaskQuery query) {
+        return manager.getTaskList().stream().filter(query::matches).toList();
+    }
+
+    @Test
+    @DisplayName("Should cost text predicates from posting lists and emit OR matches once")
+    void testTextPredicates() {
+        // Arrange
+        TaskQuery either = or(
+                where(new TaskTextSearchStrategy(), "task"),
+                where(new TaskStatusSearchStrategy(), TaskStatus.COMPLETED));
+        TaskQuery both = and(
+                where(new TaskTextSearchStrategy(), "task"),
+                where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH));
+
+        // Act
+        List<Task> result = planner.plan(either).execute();
+        TaskQueryPlan plan = planner.plan(both);
+
+        // Assert
+        assertEquals(result.size(), new HashSet<>(result).size());
+        assertEquals(new HashSet<>(bruteForce(either)), new HashSet<>(result));
+        assertEquals(10, plan.getEstimatedCost());
+        assertEquals(new HashSet<>(bruteForce(both)), new HashSet<>(plan.execute()));
+    }
+
+    @Test
+    @DisplayName("Should drive AND queries from the most selective index")
+    void testAndUsesMostSelectiveIndex() {
+        // Arrange
+        TaskQuery query = and(
+                where(new TaskStatusSearchStrategy(), TaskStatus.DEV_IN_PROGRESS),
+                where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH),
+                where(new TaskAssigneeSearchStrategy(), alice));
+
+        // Act
+        TaskQueryPlan plan = planner.plan(query);
+
+        // Assert
+        assertTrue(plan.isIndexed());
+        assertEquals(10, plan.getEstimatedCost());
+        TaskQuery.And residual = (TaskQuery.And) plan.getResidual();
+        assertEquals(TaskPriority.HIGH, ((TaskQuery.Where) residual.queries().get(0)).criteria());
+        assertEquals(new HashSet<>(bruteForce(query)), new HashSet<>(plan.execute()));
+    }
+
+    @Test
+    @DisplayName("Should union index buckets for OR without duplicates")
+    void testOrUnionsBuckets() {
+        // Arrange
+        TaskQuery query = or(
+                where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH),
+                where(new TaskStatusSearchStrategy(), TaskStatus.COMPLETED));
+
+        // Act
+        TaskQueryPlan plan = planner.plan(query);
+        List<Task> result = plan.execute();
+
+        // Assert
+        assertTrue(plan.isIndexed());
+        assertEquals(result.size(), new HashSet<>(result).size());
+        assertEquals(new HashSet<>(bruteForce(query)), new HashSet<>(result));
+    }
+
+    @Test
+    @DisplayName("Should fall back to a single scan for NOT and unindexed predicates")
+    void testNotFallsBackToScan() {
+        // Arrange
+        TaskSearchStrategy custom = mock(TaskSearchStrategy.class);
+        when(custom.matches(any(), any())).thenReturn(true);
+        TaskQuery query = and(
+                not(where(new TaskStatusSearchStrategy(), TaskStatus.COMPLETED)),
+                where(custom, "anything"));
+
+        // Act
+        TaskQueryPlan plan = planner.plan(query);
+        List<Task> result = plan.execute();
+
+        // Assert
+        assertFalse(plan.isIndexed());
+        assertEquals(90, plan.getEstimatedCost());
+        assertEquals(bruteForce(query), result);
+    }
+
+    @Test
+    @DisplayName("Should evaluate unindexed conjuncts only on indexed candidates")
+    void testUnindexedPredicateRunsOnCandidatesOnly() {
+        // Arrange
+        TaskSearchStrategy custom = mock(TaskSearchStrategy.class);
+        when(custom.matches(any(), any())).thenReturn(true);
+        TaskQuery query = and(where(custom, "anything"), where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH));
+
+        // Act
+        List<Task> result = planner.search(query);
+
+        // Assert
+        assertEquals(10, result.size());
+        verify(custom, times(10)).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer fully indexed queries from bitmaps in row order")
+    void testBitmapSearch() {
+        // Arrange
+        TaskQuery query = and(
+                where(new TaskPrioritySearchStrategy(), TaskPriority.HIGH),
+                not(where(new TaskStatusSearchStrategy(), TaskStatus.COMPLETED)));
+
+        // Act
+        List<Task> result = planner.search(query);
+
+        // Assert
+        assertEquals(bruteForce(query), result);
+        assertEquals(result.size(), planner.count(query));
+    }
+}
@@ -1,6 +1,7 @@
 package org.eztask.search;
 
 import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
 import org.eztask.entity.User;
 import org.eztask.enums.TaskPriority;
 import org.eztask.enums.TaskStatus;
@@ -10,7 +11,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -197,4 +201,127 @@ class TaskSearcherTest {
         assertTrue(result.contains(task1));
         assertTrue(result.contains(task3));
     }
+
+    @Test
+    @DisplayName("Should answer indexed searches from the task manager index")
+    void testSearchTaskManagerUsesIndex() throws Exception {
+        // Arrange
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        TaskManager manager = TaskManager.getInstance();
+        manager.addTask(task1);
+        manager.addTask(task2);
+        manager.addTask(task3);
+        manager.updateTaskStatus(task1, TaskStatus.DEV_IN_PROGRESS);
+        manager.updateTaskStatus(task2, TaskStatus.COMPLETED);
+        manager.updateTaskStatus(task3, TaskStatus.DEV_IN_PROGRESS);
+        manager.updateTaskStatus(task3, TaskStatus.COMPLETED);
+
+        searcher = new TaskSearcher(new TaskStatusSearchStrategy());
+
+        // Act
+        List<Task> result = searcher.search(manager, TaskStatus.COMPLETED);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.contains(task2));
+        assertTrue(result.contains(task3));
+    }
+
+    @Test
+    @DisplayName("Should fall back to a scan when strategy has no index")
+    void testSearchTaskManagerFallsBackToScan() throws Exception {
+        // Arrange
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        TaskManager manager = TaskManager.getInstance();
+        manager.addTask(task1);
+        manager.addTask(task2);
+        when(mockStrategy.matches(task1, "criteria")).thenReturn(true);
+        when(mockStrategy.matches(task2, "criteria")).thenReturn(false);
+
+        searcher = new TaskSearcher(mockStrategy);
+
+        // Act
+        List<Task> result = searcher.search(manager, "criteria");
+
+        // Assert
+        assertEquals(List.of(task1), result);
+        verify(mockStrategy, times(1)).matches(task2, "criteria");
+    }
+
+    @Test
+    @DisplayName("Should return indexed results in the same order as a scan")
+    void testIndexedSearchKeepsInsertionOrder() throws Exception {
+        // Arrange
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        TaskManager manager = TaskManager.getInstance();
+        for (int i = 0; i < 500; i++) {
+            Task task = new Task("Task " + i, "Description", creator);
+            task.setTaskPriority(i % 3 == 0 ? TaskPriority.HIGH : TaskPriority.LOW);
+            manager.addTask(task);
+        }
+        searcher = new TaskSearcher(new TaskPrioritySearchStrategy());
+
+        // Act
+        List<Task> indexed = searcher.search(manager, TaskPriority.HIGH);
+        List<Task> scanned = searcher.search(manager.getTaskList(), TaskPriority.HIGH);
+
+        // Assert
+        assertEquals(167, indexed.size());
+        assertEquals(scanned, indexed);
+    }
+
+    @Test
+    @DisplayName("Should keep result order when searching in parallel")
+    void testParallelSearchPreservesOrder() {
+        // Arrange
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Task task = new Task("Task " + i, "Description", creator);
+            task.setTaskPriority(i % 3 == 0 ? TaskPriority.HIGH : TaskPriority.LOW);
+            tasks.add(task);
+        }
+        TaskSearcher sequential = new TaskSearcher(new TaskPrioritySearchStrategy());
+        TaskSearcher parallel = new TaskSearcher(new TaskPrioritySearchStrategy(), 0, true);
+
+        // Act
+        List<Task> expected = sequential.search(tasks, TaskPriority.HIGH);
+        List<Task> result = parallel.search(tasks, TaskPriority.HIGH);
+
+        // Assert
+        assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("Should return the same matches when order is not required")
+    void testUnorderedParallelSearch() {
+        // Arrange
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Task task = new Task("Task " + i, "Description", creator);
+            task.setTaskStatus(i % 2 == 0 ? TaskStatus.COMPLETED : TaskStatus.NOT_PICKED);
+            tasks.add(task);
+        }
+        TaskSearcher parallel = new TaskSearcher(new TaskStatusSearchStrategy(), 0, false);
+
+        // Act
+        List<Task> result = parallel.search(tasks, TaskStatus.COMPLETED);
+
+        // Assert
+        assertEquals(5_000, result.size());
+        assertEquals(5_000, new HashSet<>(result).size());
+    }
+
+    @Test
+    @DisplayName("Should reject negative parallel threshold")
+    void testRejectsNegativeThreshold() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new TaskSearcher(new TaskStatusSearchStrategy(), -1, true));
+    }
 }
@@ -0,0 +1,157 @@
+package org.eztask.stats;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskBatch;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskCountCube Tests")
+class TaskCountCubeTest {
+
+    private TaskManager taskManager;
+    private TaskCountCube cube;
+    private User creator;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        taskManager = TaskManager.getInstance();
+        cube = taskManager.getCountCube();
+        creator = new User("Creator");
+        alice = new User("alice");
+        bob = new User("bob");
+    }
+
+    private Task add(TaskStatus status, TaskPriority priority, User assignee) {
+        Task task = new Task("Task", "Description", creator);
+        task.setTaskStatus(status);
+        task.setTaskPriority(priority);
+        task.setAssignee(assignee);
+        taskManager.addTask(task);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should count new tasks per status, priority and assignee")
+    void testCountsNewTasks() {
+        // Arrange
+        add(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH, alice);
+        add(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH, alice);
+        add(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH, bob);
+        add(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH, null);
+
+        // Act
+        Map<String, Long> perAssignee = cube.countByAssignee(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH);
+
+        // Assert
+        assertEquals(Map.of("alice", 2L, "bob", 1L), perAssignee);
+        assertEquals(1, cube.count(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH, null));
+        assertEquals(4, cube.count(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH));
+        assertEquals(0, cube.count(TaskStatus.COMPLETED, TaskPriority.HIGH, new User("carol")));
+    }
+
+    @Test
+    @DisplayName("Should move a task between cells as it changes, including chained batch changes")
+    void testCountsFollowChanges() {
+        // Arrange
+        Task task = add(TaskStatus.NOT_PICKED, TaskPriority.LOW, null);
+        Task untriaged = new Task("Untriaged", "No status yet", creator);
+        taskManager.addTask(untriaged);
+
+        // Act
+        taskManager.assignTaskToUser(task, alice);
+        taskManager.apply(new TaskBatch()
+                .updateTaskPriority(task, TaskPriority.HIGH)
+                .updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS)
+                .assignTaskToUser(task, bob));
+
+        // Assert
+        assertEquals(0, cube.count(TaskStatus.NOT_PICKED, TaskPriority.LOW));
+        assertEquals(0, cube.count(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH, alice));
+        assertEquals(1, cube.count(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH, bob));
+        assertEquals(Map.of("bob", 1L), cube.countByAssignee(TaskStatus.DEV_IN_PROGRESS, TaskPriority.HIGH));
+        assertEquals(1, cube.count(null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should count tasks of an assignee without a name")
+    void testNamelessAssignee() {
+        // Arrange
+        User nameless = new User((String) null);
+        Task task = add(TaskStatus.NOT_PICKED, TaskPriority.LOW, nameless);
+
+        // Act
+        taskManager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+        taskManager.assignTaskToUser(add(TaskStatus.NOT_PICKED, TaskPriority.LOW, null), nameless);
+
+        // Assert
+        assertEquals(1, cube.count(TaskStatus.DEV_IN_PROGRESS, TaskPriority.LOW, nameless));
+        assertEquals(1, cube.count(TaskStatus.NOT_PICKED, TaskPriority.LOW, new User((String) null)));
+        assertEquals(0, cube.count(TaskStatus.NOT_PICKED, TaskPriority.LOW, null));
+        assertEquals(Collections.singletonMap(null, 1L), cube.countByAssignee(TaskStatus.DEV_IN_PROGRESS, TaskPriority.LOW));
+    }
+
+    @Test
+    @DisplayName("Should keep exact counts under concurrent updates")
+    void testConcurrentUpdates() throws Exception {
+        // Arrange
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 512; i++) {
+            tasks.add(add(TaskStatus.NOT_PICKED, TaskPriority.MODERATE, null));
+        }
+        User[] users = {alice, bob};
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                for (int round = 0; round < 20; round++) {
+                    for (int i = offset; i < tasks.size(); i += 4) {
+                        Task task = tasks.get(i);
+                        taskManager.assignTaskToUser(task, users[(i + round) % users.length]);
+                        taskManager.updateTaskPriority(task, TaskPriority.values()[round % TaskPriority.values().length]);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        long total = 0;
+        for (TaskPriority priority : TaskPriority.values()) {
+            for (User user : users) {
+                long expected = tasks.stream()
+                        .filter(task -> task.getTaskPriority() == priority && task.getAssignee() == user)
+                        .count();
+                assertEquals(expected, cube.count(TaskStatus.NOT_PICKED, priority, user));
+            }
+            total += cube.count(TaskStatus.NOT_PICKED, priority);
+        }
+        assertEquals(tasks.size(), total);
+    }
+}
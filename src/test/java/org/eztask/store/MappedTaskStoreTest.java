@@ -0,0 +1,130 @@
+package org.eztask.store;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.search.TaskSearcher;
+import org.eztask.search.TaskStatusSearchStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedTaskStore Tests")
+class MappedTaskStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private User creator;
+    private User assignee;
+
+    @BeforeEach
+    void setUp() {
+        creator = new User("Creator");
+        assignee = new User("Assignee");
+    }
+
+    @Test
+    @DisplayName("Should materialize created tasks by id")
+    void testCreateAndGet() throws Exception {
+        try (MappedTaskStore store = MappedTaskStore.open(dir)) {
+            // Act
+            Task created = store.createTask("Task 1", "Description 1", creator);
+            Task loaded = store.getTask(created.getId());
+
+            // Assert
+            assertEquals(1, store.size());
+            assertNotSame(created, loaded);
+            assertEquals(created.getId(), loaded.getId());
+            assertEquals("Task 1", loaded.getTitle());
+            assertEquals("Description 1", loaded.getDesc());
+            assertEquals(created.getCreatedAt(), loaded.getCreatedAt());
+            assertSame(creator, loaded.getCreater());
+            assertNull(loaded.getTaskStatus());
+            assertNull(store.getTask(created.getId() + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply updates and comments to the stored record")
+    void testUpdates() throws Exception {
+        try (MappedTaskStore store = MappedTaskStore.open(dir)) {
+            // Arrange
+            long id = store.createTask("Task", "Description", creator).getId();
+
+            // Act
+            store.assignTaskToUser(id, assignee);
+            store.updateTaskStatus(id, TaskStatus.DEV_IN_PROGRESS);
+            store.updateTaskPriority(id, TaskPriority.HIGH);
+            store.addComment(id, new Comment("first"));
+            store.addComment(id, new Comment("second"));
+
+            // Assert
+            Task loaded = store.getTask(id);
+            assertSame(assignee, loaded.getAssignee());
+            assertEquals(TaskStatus.DEV_IN_PROGRESS, loaded.getTaskStatus());
+            assertEquals(TaskPriority.HIGH, loaded.getTaskPriority());
+            assertNotNull(loaded.getUpdatedAt());
+            assertEquals(2, loaded.getComments().size());
+            assertEquals("first", loaded.getComments().get(0).getText());
+            assertEquals("second", loaded.getComments().get(1).getText());
+            assertThrows(NoSuchElementException.class, () -> store.updateTaskStatus(-1, TaskStatus.COMPLETED));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep tasks and users across reopen")
+    void testReopen() throws Exception {
+        // Arrange
+        long id;
+        try (MappedTaskStore store = MappedTaskStore.open(dir)) {
+            id = store.createTask("Task", null, creator).getId();
+            store.createTask("Other", "Description", creator);
+            store.assignTaskToUser(id, assignee);
+            store.updateTaskStatus(id, TaskStatus.COMPLETED);
+        }
+
+        // Act
+        try (MappedTaskStore store = MappedTaskStore.open(dir)) {
+            Task loaded = store.getTask(id);
+            long nextId = store.createTask("Third", "Description", creator).getId();
+
+            // Assert
+            assertEquals(3, store.size());
+            assertNull(loaded.getDesc());
+            assertEquals("Assignee", loaded.getAssignee().getName());
+            assertEquals(assignee.getId(), loaded.getAssignee().getId());
+            assertEquals(TaskStatus.COMPLETED, loaded.getTaskStatus());
+            assertTrue(nextId > id);
+            assertEquals(2, store.indexOf(nextId));
+        }
+    }
+
+    @Test
+    @DisplayName("Should let TaskSearcher scan the lazily materialized view")
+    void testSearchOverSnapshot() throws Exception {
+        try (MappedTaskStore store = MappedTaskStore.open(dir)) {
+            // Arrange
+            for (int i = 0; i < 100; i++) {
+                long id = store.createTask("Task " + i, "Description", creator).getId();
+                store.updateTaskStatus(id, i % 4 == 0 ? TaskStatus.COMPLETED : TaskStatus.NOT_PICKED);
+            }
+
+            // Act
+            List<Task> result = new TaskSearcher(new TaskStatusSearchStrategy()).search(store.snapshot(), TaskStatus.COMPLETED);
+
+            // Assert
+            assertEquals(25, result.size());
+            assertEquals("Task 0", result.get(0).getTitle());
+        }
+    }
+}
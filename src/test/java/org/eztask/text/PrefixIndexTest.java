@@ -0,0 +1,116 @@
+package org.eztask.text;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrefixIndex Tests")
+class PrefixIndexTest {
+
+    private PrefixIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex<>();
+        index.put("Deploy pipeline", "deploy-pipeline", 1);
+        index.put("Deploy docs", "deploy-docs", 5);
+        index.put("Design review", "design-review", 3);
+        index.put("Dependency upgrade", "dependency-upgrade", 4);
+        index.put("Bug bash", "bug-bash", 2);
+    }
+
+    @Test
+    @DisplayName("Should return matches for a prefix by descending score")
+    void testTopMatchesByScore() {
+        // Act
+        List<String> matches = index.topMatches("de", 10);
+
+        // Assert
+        assertEquals(List.of("deploy-docs", "dependency-upgrade", "design-review", "deploy-pipeline"), matches);
+    }
+
+    @Test
+    @DisplayName("Should honour the limit and ignore case")
+    void testLimitAndCase() {
+        // Act & Assert
+        assertEquals(List.of("deploy-docs", "dependency-upgrade"), index.topMatches("DE", 2));
+        assertEquals(List.of("deploy-docs", "deploy-pipeline"), index.topMatches("deploy", 10));
+    }
+
+    @Test
+    @DisplayName("Should match prefixes that end inside a compressed edge")
+    void testPrefixInsideEdge() {
+        // Act & Assert
+        assertEquals(List.of("dependency-upgrade"), index.topMatches("depe", 10));
+        assertEquals(List.of("deploy-pipeline"), index.topMatches("deploy pi", 10));
+        assertTrue(index.topMatches("deployx", 10).isEmpty());
+        assertTrue(index.topMatches("zzz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep one entry per value and raise its score on re-insert")
+    void testReinsertRaisesScore() {
+        // Act
+        index.put("Deploy pipeline", "deploy-pipeline", 10);
+        index.put("Deploy pipeline", "deploy-pipeline-2", 0);
+
+        // Assert
+        assertEquals(6, index.size());
+        assertEquals(List.of("deploy-pipeline", "deploy-docs", "deploy-pipeline-2"), index.topMatches("deploy", 10));
+    }
+
+    @Test
+    @DisplayName("Should list every value for an empty prefix")
+    void testEmptyPrefix() {
+        // Act & Assert
+        assertEquals(5, index.topMatches("", 10).size());
+        assertEquals(List.of("deploy-docs"), index.topMatches("", 1));
+    }
+
+    @Test
+    @DisplayName("Should rank many values under one key without losing any")
+    void testManyValuesUnderOneKey() {
+        // Arrange
+        PrefixIndex<Integer> crowded = new PrefixIndex<>();
+        for (int i = 0; i < 5000; i++) {
+            crowded.put("Fix bug", i, i % 100);
+        }
+        crowded.put("Fix bug", 7, 1000);
+
+        // Act
+        List<Integer> top = crowded.topMatches("fix", 3);
+
+        // Assert
+        assertEquals(5000, crowded.size());
+        assertEquals(List.of(7, 99, 199), top);
+    }
+
+    @Test
+    @DisplayName("Should accept concurrent writers on different keys")
+    void testConcurrentPuts() throws InterruptedException {
+        // Arrange
+        PrefixIndex<String> shared = new PrefixIndex<>();
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            String key = (char) ('a' + t) + "key";
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    shared.put(key + i, key + i, i);
+                }
+            });
+        }
+
+        // Act
+        for (Thread writer : writers) writer.start();
+        for (Thread writer : writers) writer.join();
+
+        // Assert
+        assertEquals(4000, shared.size());
+        assertEquals(List.of("akey999", "bkey999", "ckey999", "dkey999"), shared.topMatches("", 4).stream().sorted().toList());
+        assertEquals(List.of("ckey999"), shared.topMatches("c", 1));
+    }
+}
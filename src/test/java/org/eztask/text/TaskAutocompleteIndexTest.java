@@ -0,0 +1,68 @@
+package org.eztask.text;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskAutocompleteIndex Tests")
+class TaskAutocompleteIndexTest {
+
+    private TaskManager taskManager;
+    private TaskAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        taskManager = TaskManager.getInstance();
+        index = taskManager.getAutocompleteIndex();
+    }
+
+    @Test
+    @DisplayName("Should complete task titles newest first")
+    void testCompleteTitle() {
+        // Arrange
+        User creator = new User("Creator");
+        Task older = new Task("Release 1.0", "Description", creator);
+        Task newer = new Task("Release notes", "Description", creator);
+        taskManager.addTask(older);
+        taskManager.addTask(newer);
+        taskManager.addTask(new Task("Refactor search", "Description", creator));
+
+        // Act
+        List<Task> matches = index.completeTitle("rel", 10);
+
+        // Assert
+        assertEquals(List.of(newer, older), matches);
+    }
+
+    @Test
+    @DisplayName("Should complete user names, most referenced first, once per name")
+    void testCompleteUserName() {
+        // Arrange
+        User alice = new User("Alice");
+        User alan = new User("Alan");
+        Task first = new Task("Task 1", "Description", alan);
+        Task second = new Task("Task 2", "Description", new User("Bob"));
+        taskManager.addTask(first);
+        taskManager.addTask(second);
+        taskManager.assignTaskToUser(first, alice);
+        taskManager.assignTaskToUser(second, new User("Alice"));
+
+        // Act
+        List<User> matches = index.completeUserName("al", 10);
+
+        // Assert
+        assertEquals(List.of(alice, alan), matches);
+        assertTrue(index.completeUserName("z", 10).isEmpty());
+    }
+}
@@ -0,0 +1,156 @@
+package org.eztask.text;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.search.TaskSearchType;
+import org.eztask.search.TaskSearcher;
+import org.eztask.search.TaskTextSearchStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskTextIndex Tests")
+class TaskTextIndexTest {
+
+    private TaskManager taskManager;
+    private TaskTextIndex index;
+    private User creator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        taskManager = TaskManager.getInstance();
+        index = (TaskTextIndex) taskManager.getIndex(TaskSearchType.TEXT);
+        creator = new User("Creator");
+    }
+
+    private Task add(String title, String desc) {
+        Task task = new Task(title, desc, creator);
+        taskManager.addTask(task);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should tokenize into lower-cased letter and digit runs")
+    void testTokenizer() {
+        // Act
+        List<String> tokens = Tokenizer.tokenize("Fix NPE in Login-Page (v2), ASAP!");
+
+        // Assert
+        assertEquals(List.of("fix", "npe", "in", "login", "page", "v2", "asap"), tokens);
+        assertTrue(Tokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return only tasks containing every query term")
+    void testAllTermsMustMatch() {
+        // Arrange
+        Task both = add("Login page crash", "Crash on submit");
+        add("Login page styling", "Colors are off");
+        add("Crash in reports", "Null pointer");
+
+        // Act
+        List<Task> result = index.search("login crash", 10);
+
+        // Assert
+        assertEquals(List.of(both), result);
+        assertTrue(index.search("login missing", 10).isEmpty());
+        assertTrue(index.search("   ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rank tasks with more occurrences of a rare term first")
+    void testRanking() {
+        // Arrange
+        Task once = add("Database migration", "Plan the migration");
+        Task often = add("Database timeout", "Database timeout again, database timeout under load");
+        add("Database backup", "Nightly job");
+
+        // Act
+        List<Task> result = index.search("database timeout", 10);
+        List<Task> limited = index.search("database", 1);
+
+        // Assert
+        assertEquals(List.of(often), result);
+        assertEquals(List.of(often), limited);
+        assertNotEquals(once, limited.get(0));
+    }
+
+    @Test
+    @DisplayName("Should index comments added to older tasks")
+    void testCommentsOnOlderTasks() {
+        // Arrange
+        Task old = add("Payment service", "Investigate");
+        for (int i = 0; i < 200; i++) {
+            add("Payment task " + i, "Routine");
+        }
+
+        // Act
+        taskManager.addComment(old, new Comment("Root cause is a deadlock"));
+        taskManager.addComment(old, new Comment("Deadlock fixed in retry path"));
+
+        // Assert
+        assertEquals(List.of(old), index.search("payment deadlock", 10));
+        assertEquals(List.of(old), index.search("retry", 10));
+    }
+
+    @Test
+    @DisplayName("Should intersect long posting lists through skip entries")
+    void testIntersectionAcrossSkips() {
+        // Arrange
+        for (int i = 0; i < 5_000; i++) {
+            add("Common title " + i, i % 997 == 0 ? "rare marker" : "filler");
+        }
+
+        // Act
+        List<Task> result = index.search("common rare", 100);
+
+        // Assert
+        assertEquals(6, result.size());
+        for (Task task : result) {
+            assertEquals(0, task.getRowId() % 997);
+        }
+    }
+
+    @Test
+    @DisplayName("Should let TaskSearcher use the text index")
+    void testTaskSearcherUsesTextIndex() {
+        // Arrange
+        Task task = add("Upgrade JDK", "Move the build to Java 21");
+        add("Upgrade Maven", "Move to the latest plugin versions");
+        TaskSearcher searcher = new TaskSearcher(new TaskTextSearchStrategy());
+
+        // Act
+        List<Task> indexed = searcher.search(taskManager, "upgrade java");
+        List<Task> scanned = searcher.search(taskManager.getTaskList(), "upgrade java");
+
+        // Assert
+        assertEquals(List.of(task), indexed);
+        assertEquals(scanned, indexed);
+        assertTrue(searcher.search(taskManager, 42).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the index ranking in TaskSearcher results")
+    void testTaskSearcherKeepsRanking() {
+        // Arrange
+        Task once = add("Database migration", "Plan the migration");
+        Task often = add("Database timeout", "Database timeout again, database timeout under load");
+        TaskSearcher searcher = new TaskSearcher(new TaskTextSearchStrategy());
+
+        // Act
+        List<Task> result = searcher.search(taskManager, "database");
+
+        // Assert
+        assertEquals(List.of(often, once), result);
+    }
+}
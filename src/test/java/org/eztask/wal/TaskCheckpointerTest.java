@@ -0,0 +1,158 @@
+package org.eztask.wal;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskCheckpointer Tests")
+class TaskCheckpointerTest {
+
+    @TempDir
+    Path dir;
+
+    private User creator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        resetSingleton();
+        creator = new User("Creator");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TaskManager.getInstance().closeWriteAheadLog();
+        resetSingleton();
+    }
+
+    private void resetSingleton() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+    }
+
+    private List<String> files(String suffix) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(file -> file.getFileName().toString()).filter(name -> name.endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private TaskManager restart() throws Exception {
+        TaskManager.getInstance().closeWriteAheadLog();
+        resetSingleton();
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(dir);
+        return manager;
+    }
+
+    @Test
+    @DisplayName("Should restore from snapshot plus log tail and drop covered segments")
+    void testCheckpointThenRestart() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(dir);
+        for (int i = 0; i < 10; i++) {
+            manager.createTask("Task " + i, "Description " + i, creator);
+        }
+        Task first = manager.getTaskList().get(0);
+        manager.updateTaskStatus(first, TaskStatus.DEV_IN_PROGRESS);
+        manager.addComment(first, new Comment("before snapshot"));
+
+        // Act
+        long boundary = manager.checkpoint();
+        manager.updateTaskPriority(first, TaskPriority.HIGH);
+        manager.addComment(first, new Comment("after snapshot"));
+        manager.createTask("Task 10", "Description 10", creator);
+        TaskManager restarted = restart();
+
+        // Assert
+        assertEquals(12, boundary);
+        assertEquals(1, files(".snap").size());
+        assertEquals(1, files(".wal").size());
+        assertEquals(11, restarted.getTaskList().size());
+        Task restored = restarted.getTask(first.getId());
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, restored.getTaskStatus());
+        assertEquals(TaskPriority.HIGH, restored.getTaskPriority());
+        assertEquals(2, restored.getComments().size());
+        assertEquals("after snapshot", restored.getComments().get(1).getText());
+        assertEquals(first.getVersion(), restored.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should carry change sequence numbers across a restart without republishing")
+    void testChangeSequenceSurvivesRestart() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(dir);
+        for (int i = 0; i < 10; i++) {
+            manager.createTask("Task " + i, "Description " + i, creator);
+        }
+        Task first = manager.getTaskList().get(0);
+        manager.updateTaskStatus(first, TaskStatus.DEV_IN_PROGRESS);
+        manager.addComment(first, new Comment("before snapshot"));
+        manager.checkpoint();
+        manager.updateTaskPriority(first, TaskPriority.HIGH);
+        manager.addComment(first, new Comment("after snapshot"));
+        manager.createTask("Task 10", "Description 10", creator);
+
+        // Act
+        TaskManager restarted = restart();
+
+        // Assert
+        assertEquals(15, restarted.getChangePublisher().nextSequence());
+        assertEquals(15, restarted.getChangePublisher().oldestBufferedSequence());
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest snapshot")
+    void testOlderSnapshotsAreDeleted() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(dir);
+        manager.createTask("Task", "Description", creator);
+
+        // Act
+        manager.checkpoint();
+        manager.createTask("Task 2", "Description", creator);
+        manager.checkpoint();
+
+        // Assert
+        assertEquals(1, files(".snap").size());
+        assertEquals(2, restart().getTaskList().size());
+    }
+
+    @Test
+    @DisplayName("Should checkpoint in the background on a schedule")
+    void testScheduledCheckpoints() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(dir);
+        manager.createTask("Task", "Description", creator);
+
+        // Act
+        manager.scheduleCheckpoints(Duration.ofMillis(20));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (files(".snap").isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertFalse(files(".snap").isEmpty());
+    }
+}
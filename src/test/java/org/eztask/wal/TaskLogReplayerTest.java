@@ -0,0 +1,203 @@
+package org.eztask.wal;
+
+import org.eztask.entity.Comment;
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.eztask.id.SequenceIdGenerator;
+import org.eztask.id.TimeOrderedIdGenerator;
+import org.eztask.search.TaskAssigneeSearchStrategy;
+import org.eztask.search.TaskSearcher;
+import org.eztask.search.TaskStatusSearchStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskLogReplayer Tests")
+class TaskLogReplayerTest {
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        resetSingleton();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TaskManager.getInstance().closeWriteAheadLog();
+        resetSingleton();
+    }
+
+    private void resetSingleton() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+    }
+
+    @Test
+    @DisplayName("Should not hand out replayed task ids again after a restart")
+    void testReplayAdvancesIdGenerator() throws Exception {
+        // Arrange
+        Path file = dir.resolve("tasks");
+        User creator = new User("Creator");
+        Task.useIdGenerator(new SequenceIdGenerator());
+        try {
+            TaskManager manager = TaskManager.getInstance();
+            manager.openWriteAheadLog(file);
+            manager.createTask("Task 1", "Description 1", creator);
+            manager.createTask("Task 2", "Description 2", creator);
+            manager.closeWriteAheadLog();
+
+            // Act
+            resetSingleton();
+            Task.useIdGenerator(new SequenceIdGenerator());
+            TaskManager restarted = TaskManager.getInstance();
+            restarted.openWriteAheadLog(file);
+            restarted.createTask("Task 3", "Description 3", creator);
+
+            // Assert
+            List<Task> tasks = restarted.getTaskList();
+            assertEquals(3, tasks.size());
+            assertEquals(3, tasks.get(2).getId());
+        } finally {
+            Task.useIdGenerator(new TimeOrderedIdGenerator());
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild tasks, indexes and timestamps from the log on restart")
+    void testRestartRebuildsState() throws Exception {
+        // Arrange
+        Path file = dir.resolve("tasks");
+        User creator = new User("Creator");
+        User assignee = new User("Assignee");
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(file);
+        manager.createTask("Task 1", "Description 1", creator);
+        manager.createTask("Task 2", "Description 2", creator);
+        Task first = manager.getTaskList().get(0);
+        manager.assignTaskToUser(first, assignee);
+        manager.updateTaskStatus(first, TaskStatus.DEV_IN_PROGRESS);
+        manager.updateTaskPriority(first, TaskPriority.HIGH);
+        manager.addComment(first, new Comment("looking into it"));
+        manager.closeWriteAheadLog();
+
+        // Act
+        resetSingleton();
+        TaskManager restarted = TaskManager.getInstance();
+        restarted.openWriteAheadLog(file);
+
+        // Assert
+        assertEquals(2, restarted.getTaskList().size());
+        Task restored = restarted.getTask(first.getId());
+        assertNotNull(restored);
+        assertEquals("Task 1", restored.getTitle());
+        assertEquals(first.getCreatedAt(), restored.getCreatedAt());
+        assertEquals(first.getUpdatedAt(), restored.getUpdatedAt());
+        assertEquals(assignee.getId(), restored.getAssignee().getId());
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, restored.getTaskStatus());
+        assertEquals(TaskPriority.HIGH, restored.getTaskPriority());
+        assertEquals("looking into it", restored.getComments().get(0).getText());
+        List<Task> inProgress = new TaskSearcher(new TaskStatusSearchStrategy())
+                .search(restarted, TaskStatus.DEV_IN_PROGRESS);
+        assertEquals(List.of(restored), inProgress);
+        assertEquals(1, new TaskSearcher(new TaskAssigneeSearchStrategy()).search(restarted, assignee).size());
+    }
+
+    @Test
+    @DisplayName("Should keep appending to the same log after replay")
+    void testAppendAfterReplay() throws Exception {
+        // Arrange
+        Path file = dir.resolve("tasks");
+        User creator = new User("Creator");
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(file);
+        manager.createTask("Task 1", "Description 1", creator);
+        manager.closeWriteAheadLog();
+        resetSingleton();
+        manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(file);
+        manager.createTask("Task 2", "Description 2", creator);
+        manager.closeWriteAheadLog();
+
+        // Act
+        resetSingleton();
+        TaskManager restarted = TaskManager.getInstance();
+        restarted.openWriteAheadLog(file);
+
+        // Assert
+        assertEquals(2, restarted.getTaskList().size());
+    }
+
+    @Test
+    @DisplayName("Should refuse to open a second log")
+    void testOpenTwice() throws Exception {
+        // Arrange
+        TaskManager manager = TaskManager.getInstance();
+        manager.openWriteAheadLog(dir.resolve("a"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> manager.openWriteAheadLog(dir.resolve("b")));
+    }
+
+    @Test
+    @DisplayName("Should skip records a snapshot already reflects")
+    void testReplayIsIdempotent() {
+        // Arrange
+        User creator = new User("Creator");
+        TaskManager manager = TaskManager.getInstance();
+        manager.createTask("Task", "Description", creator);
+        Task task = manager.getTaskList().get(0);
+        manager.addComment(task, new Comment("already there"));
+        manager.updateTaskStatus(task, TaskStatus.COMPLETED);
+        TaskLogReplayer replayer = new TaskLogReplayer(manager);
+
+        // Act
+        replayer.accept(1, ByteBuffer.wrap(TaskLogCodec.encodeCreate(task)));
+        replayer.accept(2, ByteBuffer.wrap(TaskLogCodec.encodeComment(task, 1, 0, task.getComments().get(0))));
+        replayer.accept(3, ByteBuffer.wrap(TaskLogCodec.encodeStatus(task, 2, task.getUpdatedAt(), TaskStatus.COMPLETED)));
+
+        // Assert
+        assertEquals(1, manager.getTaskList().size());
+        assertEquals(1, task.getComments().size());
+        assertEquals(TaskStatus.COMPLETED, task.getTaskStatus());
+    }
+
+    @Test
+    @DisplayName("Should leave a replayed task at the version its last record logged")
+    void testReplayRestoresVersions() {
+        // Arrange
+        User creator = new User("Creator");
+        TaskManager manager = TaskManager.getInstance();
+        manager.createTask("Task", "Description", creator);
+        Task task = manager.getTaskList().get(0);
+        manager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+        manager.updateTaskPriority(task, TaskPriority.HIGH);
+        TaskLogReplayer replayer = new TaskLogReplayer(manager);
+
+        // Act
+        replayer.accept(1, ByteBuffer.wrap(TaskLogCodec.encodeStatus(task, 1, task.getUpdatedAt(), TaskStatus.COMPLETED)));
+        replayer.accept(2, ByteBuffer.wrap(TaskLogCodec.encodePriority(task, 2, task.getUpdatedAt(), TaskPriority.HIGH)));
+        int versionAfterReflected = task.getVersion();
+        replayer.accept(3, ByteBuffer.wrap(TaskLogCodec.encodePriority(task, 4, task.getUpdatedAt(), TaskPriority.LOW)));
+
+        // Assert
+        assertEquals(2, versionAfterReflected);
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, task.getTaskStatus());
+        assertEquals(TaskPriority.LOW, task.getTaskPriority());
+        assertEquals(4, task.getVersion());
+    }
+}
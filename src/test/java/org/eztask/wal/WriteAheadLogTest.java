@@ -0,0 +1,188 @@
+package org.eztask.wal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WriteAheadLog Tests")
+class WriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    private static String text(ByteBuffer record) {
+        byte[] bytes = new byte[record.remaining()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".wal")).sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay durable records in append order")
+    void testAppendAndReplay() throws Exception {
+        // Arrange
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(0, (lsn, record) -> fail("new log should be empty"));
+            long last = 0;
+            for (int i = 0; i < 100; i++) {
+                last = log.append(bytes("record-" + i));
+            }
+            log.awaitDurable(last);
+            assertTrue(log.getDurableLsn() >= last);
+        }
+
+        // Act
+        List<String> replayed = new ArrayList<>();
+        long lastLsn;
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            lastLsn = log.replay(0, (lsn, record) -> replayed.add(lsn + ":" + text(record)));
+        }
+
+        // Assert
+        assertEquals(100, lastLsn);
+        assertEquals(100, replayed.size());
+        assertEquals("1:record-0", replayed.get(0));
+        assertEquals("100:record-99", replayed.get(99));
+    }
+
+    @Test
+    @DisplayName("Should drop a torn tail and keep appending after it")
+    void testTornTailIsTruncated() throws Exception {
+        // Arrange
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(0, (lsn, record) -> { });
+            log.awaitDurable(log.append(bytes("first")));
+            log.awaitDurable(log.append(bytes("second")));
+        }
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // Act
+        List<String> replayed = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(0, (lsn, record) -> replayed.add(text(record)));
+            log.awaitDurable(log.append(bytes("third")));
+        }
+        List<String> afterRepair = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(0, (lsn, record) -> afterRepair.add(text(record)));
+        }
+
+        // Assert
+        assertEquals(List.of("first"), replayed);
+        assertEquals(List.of("first", "third"), afterRepair);
+    }
+
+    @Test
+    @DisplayName("Should reject appends before replay")
+    void testAppendBeforeReplay() throws Exception {
+        // Arrange
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> log.append(new byte[]{1}));
+        }
+    }
+
+    @Test
+    @DisplayName("Should roll segments and delete the ones a checkpoint covers")
+    void testRollAndDeleteSegments() throws Exception {
+        // Arrange
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(0, (lsn, record) -> { });
+            log.append(bytes("a"));
+            log.append(bytes("b"));
+
+            // Act
+            long boundary = log.rollSegment();
+            log.awaitDurable(log.append(bytes("c")));
+
+            // Assert
+            assertEquals(2, boundary);
+            assertEquals(2, segments().size());
+            assertEquals(1, log.deleteSegmentsThrough(boundary));
+            assertEquals(1, segments().size());
+        }
+        List<String> replayed = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            long last = log.replay(0, (lsn, record) -> replayed.add(lsn + ":" + text(record)));
+            assertEquals(3, last);
+            assertEquals(4, log.append(bytes("d")));
+        }
+        assertEquals(List.of("3:c"), replayed);
+    }
+
+    @Test
+    @DisplayName("Should skip records at or below the given lsn")
+    void testReplayAfterLsn() throws Exception {
+        // Arrange
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(0, (lsn, record) -> { });
+            log.append(bytes("a"));
+            log.awaitDurable(log.append(bytes("b")));
+        }
+
+        // Act
+        List<String> replayed = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(1, (lsn, record) -> replayed.add(text(record)));
+        }
+
+        // Assert
+        assertEquals(List.of("b"), replayed);
+    }
+
+    @Test
+    @DisplayName("Should make concurrent appends durable through group commit")
+    void testConcurrentAppends() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 500;
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(0, (lsn, record) -> { });
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        log.awaitDurable(log.append(new byte[]{(byte) i}));
+                    }
+                }));
+            }
+
+            // Act
+            workers.forEach(Thread::start);
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+
+        // Assert
+        int[] count = {0};
+        try (WriteAheadLog log = WriteAheadLog.open(dir)) {
+            log.replay(0, (lsn, record) -> count[0]++);
+        }
+        assertEquals(threads * perThread, count[0]);
+    }
+}
@@ -0,0 +1,179 @@
+package org.eztask.workflow;
+
+import org.eztask.entity.Task;
+import org.eztask.entity.TaskBatch;
+import org.eztask.entity.TaskManager;
+import org.eztask.entity.User;
+import org.eztask.enums.TaskPriority;
+import org.eztask.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskStatusWorkflow Tests")
+class TaskStatusWorkflowTest {
+
+    private TaskManager taskManager;
+    private TaskStatusWorkflow workflow;
+    private User creator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instance = TaskManager.class.getDeclaredField("taskManager");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        taskManager = TaskManager.getInstance();
+        workflow = taskManager.getStatusWorkflow();
+        creator = new User("Creator");
+    }
+
+    private Task add(TaskStatus status) {
+        Task task = new Task("Task", "Description", creator);
+        taskManager.addTask(task);
+        if (status != null) taskManager.updateTaskStatus(task, status);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should reject a completed task going back to NOT_PICKED and change nothing")
+    void testDefaultWorkflowRejectsReset() {
+        // Arrange
+        Task task = add(TaskStatus.COMPLETED);
+        int version = task.getVersion();
+
+        // Act
+        IllegalTransitionException rejected = assertThrows(IllegalTransitionException.class,
+                () -> taskManager.updateTaskStatus(task, TaskStatus.NOT_PICKED));
+
+        // Assert
+        assertEquals(task.getId(), rejected.getTaskId());
+        assertEquals(TaskStatus.COMPLETED, rejected.getFrom());
+        assertEquals(TaskStatus.NOT_PICKED, rejected.getTo());
+        assertEquals(TaskStatus.COMPLETED, task.getTaskStatus());
+        assertEquals(version, task.getVersion());
+        assertTrue(workflow.isAllowed(TaskStatus.COMPLETED, TaskStatus.DEV_IN_PROGRESS));
+        assertTrue(workflow.isAllowed(TaskStatus.COMPLETED, TaskStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Should check a batch step by step and apply nothing when one step is illegal")
+    void testBatchTransitionsAreCheckedInOrder() {
+        // Arrange
+        Task fresh = add(null);
+        Task done = add(TaskStatus.COMPLETED);
+
+        // Act
+        taskManager.apply(new TaskBatch()
+                .updateTaskStatus(fresh, TaskStatus.NOT_PICKED)
+                .updateTaskStatus(fresh, TaskStatus.DEV_IN_PROGRESS));
+        TaskBatch illegal = new TaskBatch()
+                .updateTaskPriority(fresh, TaskPriority.HIGH)
+                .updateTaskStatus(done, TaskStatus.DEV_IN_PROGRESS)
+                .updateTaskStatus(done, TaskStatus.COMPLETED)
+                .updateTaskStatus(done, TaskStatus.NOT_PICKED);
+
+        // Assert
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, fresh.getTaskStatus());
+        assertThrows(IllegalTransitionException.class, () -> taskManager.apply(illegal));
+        assertNull(fresh.getTaskPriority());
+        assertEquals(TaskStatus.COMPLETED, done.getTaskStatus());
+    }
+
+    @Test
+    @DisplayName("Should follow changes to the transition table")
+    void testTableIsConfigurable() {
+        // Arrange
+        Task task = add(TaskStatus.NOT_PICKED);
+
+        // Act
+        workflow.forbid(TaskStatus.NOT_PICKED, TaskStatus.COMPLETED).allow(TaskStatus.COMPLETED, TaskStatus.NOT_PICKED);
+
+        // Assert
+        assertThrows(IllegalTransitionException.class, () -> taskManager.updateTaskStatus(task, TaskStatus.COMPLETED));
+        taskManager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+        taskManager.updateTaskStatus(task, TaskStatus.COMPLETED);
+        taskManager.updateTaskStatus(task, TaskStatus.NOT_PICKED);
+        assertEquals(TaskStatus.NOT_PICKED, task.getTaskStatus());
+    }
+
+    @Test
+    @DisplayName("Should run synchronous hooks on the caller and asynchronous hooks on the executor")
+    void testHooksRunWhereExpected() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        TaskStatusWorkflow own = new TaskStatusWorkflow(executor);
+        taskManager.removeListener(workflow);
+        taskManager.addListener(own);
+        Task task = add(TaskStatus.NOT_PICKED);
+        List<Thread> syncThreads = new ArrayList<>();
+        CompletableFuture<Thread> asyncThread = new CompletableFuture<>();
+        own.onTransition(TaskStatus.NOT_PICKED, TaskStatus.DEV_IN_PROGRESS,
+                (changed, from, to) -> syncThreads.add(Thread.currentThread()));
+        own.onTransitionAsync(TaskStatus.NOT_PICKED, TaskStatus.DEV_IN_PROGRESS,
+                (changed, from, to) -> asyncThread.complete(Thread.currentThread()));
+
+        // Act
+        taskManager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+        taskManager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+        taskManager.updateTaskStatus(task, TaskStatus.COMPLETED);
+
+        // Assert
+        assertEquals(List.of(Thread.currentThread()), syncThreads);
+        assertNotEquals(Thread.currentThread(), asyncThread.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run every hook when one fails and report the failure to the caller")
+    void testFailingHookIsIsolated() {
+        // Arrange
+        Task task = add(TaskStatus.NOT_PICKED);
+        List<String> ran = new ArrayList<>();
+        workflow.onTransition(TaskStatus.NOT_PICKED, TaskStatus.DEV_IN_PROGRESS, (changed, from, to) -> {
+            throw new IllegalStateException("hook down");
+        });
+        workflow.onTransition(TaskStatus.NOT_PICKED, TaskStatus.DEV_IN_PROGRESS, (changed, from, to) -> ran.add("second"));
+
+        // Act
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> taskManager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS));
+
+        // Assert
+        assertEquals("hook down", failure.getMessage());
+        assertEquals(List.of("second"), ran);
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, task.getTaskStatus());
+    }
+
+    @Test
+    @DisplayName("Should not run hooks again for transitions replayed from the log")
+    void testHooksSkipReplay(@TempDir Path dir) throws Exception {
+        // Arrange
+        taskManager.openWriteAheadLog(dir);
+        Task task = add(TaskStatus.NOT_PICKED);
+        taskManager.updateTaskStatus(task, TaskStatus.DEV_IN_PROGRESS);
+        taskManager.closeWriteAheadLog();
+        setUp();
+        List<TaskStatus> heard = new ArrayList<>();
+        workflow.onTransition(TaskStatus.NOT_PICKED, TaskStatus.DEV_IN_PROGRESS, (changed, from, to) -> heard.add(to));
+
+        // Act
+        taskManager.openWriteAheadLog(dir);
+
+        // Assert
+        assertEquals(TaskStatus.DEV_IN_PROGRESS, taskManager.getTask(task.getId()).getTaskStatus());
+        assertTrue(heard.isEmpty());
+        taskManager.closeWriteAheadLog();
+    }
+}